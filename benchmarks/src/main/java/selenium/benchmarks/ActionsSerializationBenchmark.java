@@ -0,0 +1,58 @@
+package selenium.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.interactions.Sequence;
+import org.openqa.selenium.json.Json;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🖱️ Cost of the Actions API before and including the single POST /actions:
+ * building the input sequences, serialising them, and performing them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActionsSerializationBenchmark {
+
+    private static final Json JSON = new Json();
+
+    @Benchmark
+    public String buildAndSerializeDragAndType(FakeSession session) {
+        List<Map<String, Object>> sequences = dragAndType(session).getSequences().stream()
+                .map(Sequence::toJson)
+                .toList();
+        return JSON.toJson(Map.of("actions", sequences));
+    }
+
+    @Benchmark
+    public void buildAndPerformDragAndType(FakeSession session) {
+        dragAndType(session).perform();
+    }
+
+    private static Actions dragAndType(FakeSession session) {
+        return new Actions(session.driver)
+                .moveToElement(session.element)
+                .clickAndHold()
+                .moveByOffset(40, 10)
+                .moveByOffset(40, 10)
+                .release()
+                .click(session.element)
+                .keyDown(Keys.SHIFT)
+                .sendKeys("selenium")
+                .keyUp(Keys.SHIFT)
+                .sendKeys(Keys.TAB);
+    }
+}
@@ -0,0 +1,64 @@
+package selenium.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📨 Full round trip of single commands through RemoteWebDriver:
+ * encode → HTTP over loopback → fake endpoint → decode.
+ *
+ * With the browser out of the picture, this is the floor every WebDriver call pays on our side.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommandDispatchBenchmark {
+
+    @Benchmark
+    public String getTitle(FakeSession session) {
+        return session.driver.getTitle();
+    }
+
+    @Benchmark
+    public WebElement findElement(FakeSession session) {
+        return session.driver.findElement(By.cssSelector("#login .submit"));
+    }
+
+    @Benchmark
+    public List<WebElement> findElements(FakeSession session) {
+        return session.driver.findElements(By.xpath("//table//tr"));
+    }
+
+    @Benchmark
+    public void click(FakeSession session) {
+        session.element.click();
+    }
+
+    @Benchmark
+    public void sendKeys(FakeSession session) {
+        session.element.sendKeys("john.doe@example.com");
+    }
+
+    @Benchmark
+    public Object executeScript(FakeSession session) {
+        return session.driver.executeScript("return arguments[0].value;", session.element);
+    }
+
+    @Benchmark
+    public boolean isDisplayed(FakeSession session) {
+        // W3C has no isDisplayed endpoint — Selenium ships a JS atom through execute/sync
+        return session.element.isDisplayed();
+    }
+}
@@ -0,0 +1,37 @@
+package selenium.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * A {@link RemoteWebDriver} session against a {@link FakeWebDriverServer}, shared by one benchmark run.
+ * The session is opened once per trial, so the numbers measure commands — not session start.
+ */
+@State(Scope.Benchmark)
+public class FakeSession {
+
+    FakeWebDriverServer server;
+    RemoteWebDriver driver;
+    WebElement element;
+
+    @Setup(Level.Trial)
+    public void open() {
+        server = FakeWebDriverServer.start();
+        driver = new RemoteWebDriver(server.url(), new ImmutableCapabilities("browserName", "chrome"));
+        driver.get("http://fake.local/page");
+        element = driver.findElement(By.id("target"));
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        driver.quit();
+        server.close();
+    }
+}
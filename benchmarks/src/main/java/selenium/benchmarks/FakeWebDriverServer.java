@@ -0,0 +1,250 @@
+package selenium.benchmarks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 🧪 FakeWebDriverServer — an in-JVM stub of the W3C WebDriver HTTP protocol
+ *
+ * Answers the commands our tests send most with canned payloads, so the client side of
+ * Selenium (command encoding, HTTP dispatch, response decoding) can be measured without a
+ * browser or a network in the way.
+ *
+ * ✅ Supported (everything else answers "unknown command"):
+ *  - POST   /session                                 → new session
+ *  - DELETE /session/{id}                            → quit
+ *  - POST   /session/{id}/url, GET url, GET title    → navigation
+ *  - POST   /session/{id}/element(s)                 → find element(s), also below an element
+ *  - POST   /session/{id}/element/{e}/click | value | clear
+ *  - GET    /session/{id}/element/{e}/text | name | enabled | selected | rect | attribute/{n} | property/{n}
+ *  - POST   /session/{id}/execute/sync | async        → {@link #scriptResult(String)}
+ *  - POST   /session/{id}/actions, DELETE actions
+ *  - GET    /session/{id}/screenshot, GET element/{e}/screenshot → canned PNG
+ *  - GET    /session/{id}/window, POST timeouts
+ *
+ * 🔧 Knobs for the benchmarks:
+ *  - {@link #failNextFinds(int)}   — the next N finds answer "no such element" (drives wait loops)
+ *  - {@link #scriptResult(String)} — the raw JSON value returned by execute/sync and execute/async
+ */
+public final class FakeWebDriverServer implements AutoCloseable {
+
+    private static final String ELEMENT_KEY = "element-6066-11e4-a52e-4f735466cecf";
+    private static final byte[] NULL_VALUE = "{\"value\":null}".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String screenshotJson;
+    private final AtomicInteger failFinds = new AtomicInteger();
+    private final AtomicLong elementIds = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private volatile String scriptResult = "true";
+    private volatile String currentUrl = "about:blank";
+
+    static {
+        // Without TCP_NODELAY every response waits out the client's delayed ACK (~40 ms)
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private FakeWebDriverServer(int screenshotWidth, int screenshotHeight) throws IOException {
+        this.screenshotJson = "{\"value\":\"" + cannedPng(screenshotWidth, screenshotHeight) + "\"}";
+        this.executor = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    /**
+     * Starts a stub on a free loopback port whose screenshots are a 1280x720 PNG.
+     */
+    public static FakeWebDriverServer start() {
+        return start(1280, 720);
+    }
+
+    public static FakeWebDriverServer start(int screenshotWidth, int screenshotHeight) {
+        try {
+            return new FakeWebDriverServer(screenshotWidth, screenshotHeight);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the fake WebDriver endpoint", e);
+        }
+    }
+
+    public URL url() {
+        try {
+            return new URL("http://127.0.0.1:" + server.getAddress().getPort());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void failNextFinds(int count) {
+        failFinds.set(count);
+    }
+
+    public void scriptResult(String rawJsonValue) {
+        this.scriptResult = rawJsonValue;
+    }
+
+    /**
+     * The canned screenshot, already base64 — what the wire carries.
+     */
+    public String screenshotBase64() {
+        return screenshotJson.substring("{\"value\":\"".length(), screenshotJson.length() - 2);
+    }
+
+    public long requestCount() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try (exchange) {
+            // The client always sends a body on POST; drain it so the connection can be reused
+            try (InputStream body = exchange.getRequestBody()) {
+                body.transferTo(OutputStream.nullOutputStream());
+            }
+            String method = exchange.getRequestMethod();
+            String[] path = exchange.getRequestURI().getPath().split("/");
+            // path[0] is "" — path[1] is "session"
+            if (path.length < 2 || !"session".equals(path[1])) {
+                error(exchange, 404, "unknown command", exchange.getRequestURI().getPath());
+                return;
+            }
+            if (path.length == 2 && "POST".equals(method)) {
+                String sessionId = UUID.randomUUID().toString();
+                ok(exchange, "{\"value\":{\"sessionId\":\"" + sessionId + "\",\"capabilities\":{"
+                        + "\"browserName\":\"chrome\",\"browserVersion\":\"fake\",\"platformName\":\"linux\","
+                        + "\"acceptInsecureCerts\":false,\"pageLoadStrategy\":\"normal\"}}}");
+                return;
+            }
+            if (path.length == 3) {
+                // DELETE /session/{id}
+                ok(exchange, NULL_VALUE);
+                return;
+            }
+            route(exchange, method, path);
+        }
+    }
+
+    private void route(HttpExchange exchange, String method, String[] path) throws IOException {
+        String command = path[3];
+        switch (command) {
+            case "url" -> {
+                if ("POST".equals(method)) {
+                    currentUrl = "http://fake.local/page";
+                    ok(exchange, NULL_VALUE);
+                } else {
+                    ok(exchange, "{\"value\":\"" + currentUrl + "\"}");
+                }
+            }
+            case "title" -> ok(exchange, "{\"value\":\"Fake page\"}");
+            case "window" -> ok(exchange, "{\"value\":\"window-1\"}");
+            case "timeouts", "actions" -> ok(exchange, NULL_VALUE);
+            case "execute" -> ok(exchange, "{\"value\":" + scriptResult + "}");
+            case "screenshot" -> ok(exchange, screenshotJson);
+            case "element", "elements" -> {
+                if (path.length == 4) {
+                    find(exchange, "elements".equals(command));
+                } else {
+                    element(exchange, path);
+                }
+            }
+            default -> error(exchange, 404, "unknown command", String.join("/", path));
+        }
+    }
+
+    private void element(HttpExchange exchange, String[] path) throws IOException {
+        // /session/{id}/element/{elementId}/{command}[/{name}]
+        String command = path.length > 5 ? path[5] : "";
+        switch (command) {
+            case "element" -> find(exchange, false);
+            case "elements" -> find(exchange, true);
+            case "click", "value", "clear" -> ok(exchange, NULL_VALUE);
+            case "text" -> ok(exchange, "{\"value\":\"Fake text\"}");
+            case "name" -> ok(exchange, "{\"value\":\"input\"}");
+            case "enabled" -> ok(exchange, "{\"value\":true}");
+            case "selected" -> ok(exchange, "{\"value\":false}");
+            case "rect" -> ok(exchange, "{\"value\":{\"x\":10,\"y\":20,\"width\":200,\"height\":30}}");
+            case "attribute", "property", "css" -> ok(exchange, "{\"value\":\"fake\"}");
+            case "screenshot" -> ok(exchange, screenshotJson);
+            default -> error(exchange, 404, "unknown command", String.join("/", path));
+        }
+    }
+
+    private void find(HttpExchange exchange, boolean many) throws IOException {
+        if (failFinds.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+            if (many) {
+                ok(exchange, "{\"value\":[]}");
+            } else {
+                error(exchange, 404, "no such element", "Unable to locate element");
+            }
+            return;
+        }
+        String element = "{\"" + ELEMENT_KEY + "\":\"e-" + elementIds.incrementAndGet() + "\"}";
+        ok(exchange, "{\"value\":" + (many ? "[" + element + "," + element + "]" : element) + "}");
+    }
+
+    private static void ok(HttpExchange exchange, String json) throws IOException {
+        ok(exchange, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void ok(HttpExchange exchange, byte[] json) throws IOException {
+        send(exchange, 200, json);
+    }
+
+    private static void error(HttpExchange exchange, int status, String error, String message) throws IOException {
+        send(exchange, status, ("{\"value\":{\"error\":\"" + error + "\",\"message\":\"" + message
+                + "\",\"stacktrace\":\"\"}}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    /**
+     * A screenshot-like PNG: flat areas plus some noise, so it compresses (and decodes) like a real page.
+     */
+    private static String cannedPng(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                boolean header = y < height / 10;
+                int base = header ? 0x2d6cdf : 0xf5f5f5;
+                image.setRGB(x, y, (y / 24) % 3 == 0 && x % 7 < 5 ? base ^ random.nextInt(0x40) : base);
+            }
+        }
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+        return Base64.getEncoder().encodeToString(png.toByteArray());
+    }
+}
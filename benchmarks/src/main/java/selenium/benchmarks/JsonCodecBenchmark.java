@@ -0,0 +1,101 @@
+package selenium.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.remote.codec.w3c.W3CHttpCommandCodec;
+import org.openqa.selenium.remote.codec.w3c.W3CHttpResponseCodec;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🧾 The JSON work on either side of the wire, without the wire:
+ * - Selenium's own codecs (what RemoteWebDriver runs per command)
+ * - Selenium's Json vs Jackson on the same payloads, for comparison
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonCodecBenchmark {
+
+    private static final TypeReference<Map<String, Object>> MAP = new TypeReference<>() {
+    };
+
+    private final Json json = new Json();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final W3CHttpCommandCodec commandCodec = new W3CHttpCommandCodec();
+    private final W3CHttpResponseCodec responseCodec = new W3CHttpResponseCodec();
+
+    private Command findElement;
+    private Map<String, Object> elementsPayload;
+    private String elementsJson;
+
+    @Setup
+    public void prepare() {
+        SessionId session = new SessionId("0f4b5a1e-2c3d-4e5f-8a9b-0c1d2e3f4a5b");
+        findElement = new Command(session, DriverCommand.FIND_ELEMENT,
+                Map.of("using", "css selector", "value", "#login .submit"));
+
+        List<Map<String, String>> elements = new java.util.ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            elements.add(Map.of("element-6066-11e4-a52e-4f735466cecf", "f.4B2C1E.d.9A8B7C6D.e." + i));
+        }
+        elementsPayload = Map.of("value", elements);
+        elementsJson = json.toJson(elementsPayload);
+    }
+
+    @Benchmark
+    public HttpRequest encodeFindElementCommand() {
+        return commandCodec.encode(findElement);
+    }
+
+    @Benchmark
+    public Response decodeFiftyElementsResponse() {
+        HttpResponse response = new HttpResponse()
+                .setHeader("Content-Type", "application/json; charset=utf-8")
+                .setContent(Contents.utf8String(elementsJson));
+        return responseCodec.decode(response);
+    }
+
+    @Benchmark
+    public String seleniumJsonWrite() {
+        return json.toJson(elementsPayload);
+    }
+
+    @Benchmark
+    public Map<String, Object> seleniumJsonRead() {
+        return json.toType(elementsJson, Json.MAP_TYPE);
+    }
+
+    @Benchmark
+    public String jacksonWrite() throws Exception {
+        return mapper.writeValueAsString(elementsPayload);
+    }
+
+    @Benchmark
+    public Map<String, Object> jacksonRead() throws Exception {
+        return mapper.readValue(elementsJson, MAP);
+    }
+}
@@ -0,0 +1,62 @@
+package selenium.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.OutputType;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📸 Screenshot cost split into its parts (1280x720 canned PNG):
+ * round trip + base64 decode, base64 decode alone, and PNG decode to pixels.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScreenshotDecodeBenchmark {
+
+    private String base64;
+    private byte[] png;
+
+    @Setup
+    public void prepare(FakeSession session) {
+        base64 = session.server.screenshotBase64();
+        png = Base64.getDecoder().decode(base64);
+    }
+
+    @Benchmark
+    public byte[] getScreenshotAsBytes(FakeSession session) {
+        return session.driver.getScreenshotAs(OutputType.BYTES);
+    }
+
+    @Benchmark
+    public byte[] outputTypeBytesDecode() {
+        return OutputType.BYTES.convertFromBase64Png(base64);
+    }
+
+    @Benchmark
+    public byte[] jdkBase64Decode() {
+        return Base64.getDecoder().decode(base64);
+    }
+
+    @Benchmark
+    public BufferedImage pngToImage() throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(png));
+    }
+}
@@ -0,0 +1,63 @@
+package selenium.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ⏳ Client-side cost of a wait loop: the element appears after {@code missedPolls} failed finds.
+ *
+ * The sleeper is a no-op, so the numbers are the polling machinery and the round trips only —
+ * what a wait costs beyond the time the page itself needs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WaitLoopBenchmark {
+
+    private static final By TARGET = By.id("revealed");
+
+    @Param({"0", "3", "10"})
+    public int missedPolls;
+
+    @Benchmark
+    public WebElement webDriverWaitVisibility(FakeSession session) {
+        session.server.failNextFinds(missedPolls);
+        WebDriverWait wait = new WebDriverWait(session.driver, Duration.ofSeconds(5), Duration.ZERO,
+                Clock.systemDefaultZone(), duration -> { });
+        return wait.until(ExpectedConditions.visibilityOfElementLocated(TARGET));
+    }
+
+    @Benchmark
+    public WebElement fluentWaitDisplayedAndEnabled(FakeSession session) {
+        session.server.failNextFinds(missedPolls);
+        return new FluentWait<>(session.driver, Clock.systemDefaultZone(), duration -> { })
+                .withTimeout(Duration.ofSeconds(5))
+                .pollingEvery(Duration.ZERO)
+                .ignoring(NoSuchElementException.class)
+                .until(driver -> {
+                    WebElement input = driver.findElement(TARGET);
+                    return input.isDisplayed() && input.isEnabled() ? input : null;
+                });
+    }
+}
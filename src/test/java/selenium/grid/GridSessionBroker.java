@@ -0,0 +1,456 @@
+package selenium.grid;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import selenium.webdriver.drivers.GridHttpClientFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 🧭 GridSessionBroker — spread new sessions over several Selenium Grids
+ *
+ * With one hard-coded hub, new sessions block as soon as that hub's queue fills up.
+ * The broker knows several hubs and, for every new session:
+ *  1. routes it to the hub with the most free slots for the requested browser
+ *     (free slots − hub queue − sessions we just sent there and the hub hasn't reported yet)
+ *  2. skips hubs whose circuit breaker is open (too many failed polls / unreachable session requests)
+ *  3. if no hub has room, waits in a LOCAL first-come-first-served queue for that browser, so one
+ *     busy test thread cannot starve the others, and retries as soon as a status poll shows a free
+ *     slot — a request for a browser no hub has room for never holds up requests for another one
+ *
+ * Hub state comes from polling {@code /status} (free slots per browser) and, where available,
+ * the GraphQL endpoint (session queue size).
+ *
+ * ⚠️ Only transport failures (hub unreachable, connection reset) count against a hub and move the
+ * request on to the next one. A hub that answers "session not created" or rejects the capabilities
+ * is healthy — that error is the caller's, so it is thrown at once instead of being tried everywhere.
+ *
+ * 🔧 Configuration (system properties):
+ *  - grid.endpoints         — comma-separated hub URLs (used by {@link #fromSystemProperties()})
+ *  - grid.status.interval   — milliseconds between /status polls (default: 2000)
+ *  - grid.broker.timeout    — seconds a request may wait for a slot (default: 300)
+ *  - grid.breaker.failures  — consecutive failures that open a hub's breaker (default: 3)
+ *  - grid.breaker.cooldown  — seconds before an open breaker lets one trial request through (default: 30)
+ */
+public final class GridSessionBroker implements AutoCloseable {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(Integer.getInteger("grid.status.interval", 2000));
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(Integer.getInteger("grid.broker.timeout", 300));
+    private static final int BREAKER_FAILURES = Integer.getInteger("grid.breaker.failures", 3);
+    private static final Duration BREAKER_COOLDOWN = Duration.ofSeconds(Integer.getInteger("grid.breaker.cooldown", 30));
+
+    private static final Json JSON = new Json();
+    private static final String QUEUE_SIZE_QUERY = "{\"query\":\"{ grid { sessionQueueSize } }\"}";
+
+    private final List<Hub> hubs;
+    private final HttpClient statusClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+    private final ScheduledExecutorService poller;
+
+    // Fair lock + one ticket queue per browser: the longest-waiting thread for a browser always gets
+    // that browser's next free slot (guarded by lock)
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition changed = lock.newCondition();
+    private final Map<String, Deque<Thread>> waiting = new HashMap<>();
+
+    public GridSessionBroker(Collection<URL> hubUrls) {
+        if (hubUrls.isEmpty()) {
+            throw new IllegalArgumentException("At least one grid endpoint is required");
+        }
+        this.hubs = hubUrls.stream().map(Hub::new).toList();
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "grid-status-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        pollAll();
+        poller.scheduleWithFixedDelay(this::pollAll, POLL_INTERVAL.toMillis(), POLL_INTERVAL.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Broker over the hubs listed in -Dgrid.endpoints=http://grid-a:4444,http://grid-b:4444
+     */
+    public static GridSessionBroker fromSystemProperties() {
+        String endpoints = System.getProperty("grid.endpoints", "");
+        List<URL> urls = new ArrayList<>();
+        for (String endpoint : endpoints.split(",")) {
+            if (!endpoint.isBlank()) {
+                try {
+                    urls.add(new URL(endpoint.trim()));
+                } catch (MalformedURLException e) {
+                    throw new IllegalArgumentException("Invalid grid endpoint: " + endpoint, e);
+                }
+            }
+        }
+        return new GridSessionBroker(urls);
+    }
+
+    /**
+     * Broker over the given hub URLs.
+     */
+    public static GridSessionBroker of(String... hubUrls) {
+        return new GridSessionBroker(Arrays.stream(hubUrls).map(url -> {
+            try {
+                return new URL(url);
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException("Invalid grid endpoint: " + url, e);
+            }
+        }).toList());
+    }
+
+    /**
+     * Starts a session on the least-loaded healthy hub, waiting (fairly) for a free slot if necessary.
+     *
+     * @throws SessionNotCreatedException if no hub could start the session within grid.broker.timeout,
+     *                                     or a hub refused the capabilities
+     */
+    public RemoteWebDriver newSession(Capabilities capabilities) {
+        String browser = capabilities.getBrowserName();
+        long deadline = System.nanoTime() + REQUEST_TIMEOUT.toNanos();
+        WebDriverException lastFailure = null;
+        while (true) {
+            Hub hub = reserve(browser, deadline);
+            if (hub == null) {
+                SessionNotCreatedException timeout = new SessionNotCreatedException(
+                        "No grid had a free " + browser + " slot within " + REQUEST_TIMEOUT + " — " + describe());
+                if (lastFailure != null) {
+                    timeout.addSuppressed(lastFailure);
+                }
+                throw timeout;
+            }
+            try {
+                RemoteWebDriver driver = GridHttpClientFactory.remoteDriver(hub.url, capabilities);
+                hub.succeeded();
+                return driver;
+            } catch (WebDriverException e) {
+                if (!isHubFailure(e)) {
+                    // The hub answered: a capability or session-creation error will not go away on another hub
+                    hub.answered();
+                    throw e;
+                }
+                // Hub unreachable — count it against the hub and try the next best one
+                lastFailure = e;
+                hub.failed();
+            } finally {
+                hub.unreserve();
+                signalChange();
+            }
+        }
+    }
+
+    /**
+     * One line per hub: breaker state, free slots, queue — handy in logs when sessions are slow to start.
+     */
+    public String describe() {
+        StringBuilder out = new StringBuilder();
+        for (Hub hub : hubs) {
+            out.append(hub).append("; ");
+        }
+        return out.toString();
+    }
+
+    @Override
+    public void close() {
+        poller.shutdownNow();
+    }
+
+    /**
+     * Waits for this thread's turn among the requests for the same browser and a hub with capacity,
+     * then reserves a slot on it. Returns null when the deadline passes.
+     */
+    private Hub reserve(String browser, long deadline) {
+        Thread me = Thread.currentThread();
+        String key = browser == null ? "" : browser.toLowerCase();
+        lock.lock();
+        try {
+            Deque<Thread> line = waiting.computeIfAbsent(key, k -> new ArrayDeque<>());
+            line.addLast(me);
+            try {
+                while (true) {
+                    if (line.peekFirst() == me) {
+                        Optional<Hub> best = leastLoaded(browser);
+                        if (best.isPresent()) {
+                            best.get().reserve();
+                            return best.get();
+                        }
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return null;
+                    }
+                    changed.awaitNanos(Math.min(remaining, POLL_INTERVAL.toNanos()));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SessionNotCreatedException("Interrupted while waiting for a grid slot");
+            } finally {
+                line.remove(me);
+                if (line.isEmpty()) {
+                    waiting.remove(key);
+                }
+                // The next thread in line may be able to go now
+                changed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * True for failures of the hub itself (unreachable, connection dropped), false when the hub
+     * answered with an error about the request. RemoteWebDriver reports both as
+     * SessionNotCreatedException, so only the cause tells them apart.
+     */
+    static boolean isHubFailure(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof UnreachableBrowserException
+                    || cause instanceof IOException
+                    || cause instanceof UncheckedIOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Optional<Hub> leastLoaded(String browser) {
+        Hub best = null;
+        int bestHeadroom = 0;
+        int bestReserved = 0;
+        for (Hub hub : hubs) {
+            if (!hub.acceptsRequests()) {
+                continue;
+            }
+            int headroom;
+            int reserved;
+            // One consistent reading per hub — the poller updates it concurrently
+            synchronized (hub) {
+                headroom = hub.headroom(browser);
+                reserved = hub.reserved;
+            }
+            if (headroom > 0 && (best == null || headroom > bestHeadroom
+                    || headroom == bestHeadroom && reserved < bestReserved)) {
+                best = hub;
+                bestHeadroom = headroom;
+                bestReserved = reserved;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    private void pollAll() {
+        for (Hub hub : hubs) {
+            poll(hub);
+        }
+        signalChange();
+    }
+
+    private void poll(Hub hub) {
+        try {
+            HttpResponse<String> response = statusClient.send(
+                    HttpRequest.newBuilder(hub.root.resolve("status")).timeout(Duration.ofSeconds(5)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new WebDriverException("/status answered " + response.statusCode());
+            }
+            Map<String, Object> body = JSON.toType(response.body(), Json.MAP_TYPE);
+            Map<String, Object> value = asMap(body.get("value"));
+            hub.update(freeSlots(value), queueSize(hub), Boolean.TRUE.equals(value.get("ready")));
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            hub.failed();
+        }
+    }
+
+    /**
+     * Free slots per browser name, counted over nodes that are UP.
+     */
+    private static Map<String, Integer> freeSlots(Map<String, Object> status) {
+        Map<String, Integer> free = new HashMap<>();
+        for (Object nodeObject : asList(status.get("nodes"))) {
+            Map<String, Object> node = asMap(nodeObject);
+            if (!"UP".equals(node.get("availability"))) {
+                continue;
+            }
+            for (Object slotObject : asList(node.get("slots"))) {
+                Map<String, Object> slot = asMap(slotObject);
+                if (slot.get("session") == null) {
+                    Object browserName = asMap(slot.get("stereotype")).get("browserName");
+                    free.merge(String.valueOf(browserName).toLowerCase(), 1, Integer::sum);
+                }
+            }
+        }
+        return free;
+    }
+
+    private int queueSize(Hub hub) {
+        try {
+            HttpResponse<String> response = statusClient.send(
+                    HttpRequest.newBuilder(hub.root.resolve("graphql"))
+                            .timeout(Duration.ofSeconds(5))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(QUEUE_SIZE_QUERY))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                Map<String, Object> body = JSON.toType(response.body(), Json.MAP_TYPE);
+                Map<String, Object> grid = asMap(asMap(body.get("data")).get("grid"));
+                if (grid.get("sessionQueueSize") instanceof Number size) {
+                    return size.intValue();
+                }
+            }
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            // Hubs without GraphQL simply report no queue
+        }
+        return 0;
+    }
+
+    private void signalChange() {
+        lock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object value) {
+        return value instanceof Map<?, ?> map ? (Map<String, Object>) map : Map.of();
+    }
+
+    private static List<?> asList(Object value) {
+        return value instanceof List<?> list ? list : List.of();
+    }
+
+    private enum BreakerState { CLOSED, OPEN, HALF_OPEN }
+
+    /**
+     * Last known state of one hub. Mutated by the poller and by request threads, so every access
+     * goes through the instance monitor.
+     */
+    private static final class Hub {
+        private final URL url;
+        private final URI root;
+        private Map<String, Integer> freeSlots = Map.of();
+        private int queued;
+        private boolean ready;
+        // Sessions sent here since the last poll — the hub's numbers don't include them yet
+        private int reserved;
+        private int sentSincePoll;
+        private int consecutiveFailures;
+        private BreakerState breaker = BreakerState.CLOSED;
+        private long openedAt;
+        private boolean trialInFlight;
+
+        private Hub(URL url) {
+            this.url = url;
+            // /status and /graphql live at the server root, even when sessions go to .../wd/hub
+            String base = url.toString().replaceAll("/wd/hub/?$", "").replaceAll("/$", "");
+            this.root = URI.create(base + "/");
+        }
+
+        synchronized void update(Map<String, Integer> freeSlots, int queued, boolean ready) {
+            this.freeSlots = freeSlots;
+            this.queued = queued;
+            this.ready = ready;
+            this.sentSincePoll = 0;
+            if (breaker != BreakerState.OPEN) {
+                consecutiveFailures = 0;
+                breaker = BreakerState.CLOSED;
+            }
+        }
+
+        synchronized boolean acceptsRequests() {
+            if (breaker == BreakerState.OPEN && System.nanoTime() - openedAt >= BREAKER_COOLDOWN.toNanos()) {
+                breaker = BreakerState.HALF_OPEN;
+                trialInFlight = false;
+            }
+            return switch (breaker) {
+                case CLOSED -> ready;
+                case HALF_OPEN -> !trialInFlight;
+                case OPEN -> false;
+            };
+        }
+
+        synchronized int headroom(String browser) {
+            int free = freeSlots.getOrDefault(browser == null ? "" : browser.toLowerCase(), 0);
+            if (breaker == BreakerState.HALF_OPEN) {
+                // One trial request, whatever the (stale) numbers say
+                return trialInFlight ? 0 : 1;
+            }
+            return free - queued - reserved - sentSincePoll;
+        }
+
+        synchronized void reserve() {
+            reserved++;
+            if (breaker == BreakerState.HALF_OPEN) {
+                trialInFlight = true;
+            }
+        }
+
+        synchronized void unreserve() {
+            reserved--;
+        }
+
+        synchronized void succeeded() {
+            sentSincePoll++;
+            consecutiveFailures = 0;
+            breaker = BreakerState.CLOSED;
+        }
+
+        /**
+         * The hub responded to a session request (with an error that is not its own fault).
+         */
+        synchronized void answered() {
+            consecutiveFailures = 0;
+            breaker = BreakerState.CLOSED;
+        }
+
+        synchronized void failed() {
+            consecutiveFailures++;
+            if (breaker == BreakerState.HALF_OPEN || consecutiveFailures >= BREAKER_FAILURES) {
+                breaker = BreakerState.OPEN;
+                openedAt = System.nanoTime();
+            }
+        }
+
+        @Override
+        public synchronized String toString() {
+            return url + " [" + breaker + ", free=" + freeSlots + ", queued=" + queued
+                    + ", pending=" + (reserved + sentSincePoll) + "]";
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package selenium.grid;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Drives the broker against stub hubs that speak just enough of the Grid protocol:
+ * /status with free chrome slots, and POST /session answered with a session or an error.
+ */
+public class GridSessionBrokerTest {
+
+    private static final ImmutableCapabilities CHROME = new ImmutableCapabilities("browserName", "chrome");
+
+    private final List<StubHub> hubs = new ArrayList<>();
+    private final List<GridSessionBroker> brokers = new ArrayList<>();
+
+    @AfterMethod
+    public void stop() {
+        brokers.forEach(GridSessionBroker::close);
+        hubs.forEach(StubHub::stop);
+        brokers.clear();
+        hubs.clear();
+    }
+
+    @Test
+    public void newSessionGoesToTheHubWithTheMostFreeSlots() {
+        StubHub small = hub(1, false);
+        StubHub large = hub(4, false);
+
+        RemoteWebDriver driver = broker(small, large).newSession(CHROME);
+
+        assertEquals(driver.getSessionId().toString(), large.name);
+        assertEquals(small.sessionRequests.get(), 0);
+    }
+
+    @Test
+    public void sessionNotCreatedFailsFastWithoutTryingOtherHubs() {
+        StubHub rejecting = hub(4, true);
+        StubHub other = hub(1, false);
+        GridSessionBroker broker = broker(rejecting, other);
+
+        assertThrows(SessionNotCreatedException.class, () -> broker.newSession(CHROME));
+        assertEquals(rejecting.sessionRequests.get(), 1);
+        assertEquals(other.sessionRequests.get(), 0);
+        assertTrue(broker.describe().contains(rejecting.url() + " [CLOSED"), broker.describe());
+    }
+
+    @Test
+    public void unreachableHubIsSkippedForTheNextBest() {
+        StubHub gone = hub(4, false);
+        StubHub other = hub(1, false);
+        GridSessionBroker broker = broker(gone, other);
+        gone.stop();
+
+        RemoteWebDriver driver = broker.newSession(CHROME);
+
+        assertEquals(driver.getSessionId().toString(), other.name);
+    }
+
+    // A regression would block chrome for grid.broker.timeout (300 s) — fail instead
+    @Test(timeOut = 10_000)
+    public void waitingForABrowserWithoutSlotsDoesNotBlockOtherBrowsers() throws InterruptedException {
+        StubHub chromeOnly = hub(2, false);
+        GridSessionBroker broker = broker(chromeOnly);
+        Thread firefox = new Thread(() -> {
+            try {
+                broker.newSession(new ImmutableCapabilities("browserName", "firefox"));
+            } catch (SessionNotCreatedException e) {
+                // Interrupted below
+            }
+        }, "firefox-request");
+        firefox.setDaemon(true);
+        firefox.start();
+        while (firefox.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(5);
+        }
+
+        try {
+            long start = System.nanoTime();
+            RemoteWebDriver driver = broker.newSession(CHROME);
+
+            assertEquals(driver.getSessionId().toString(), chromeOnly.name);
+            assertTrue(System.nanoTime() - start < 1_000_000_000L, "chrome waited behind firefox");
+            assertTrue(firefox.isAlive());
+        } finally {
+            firefox.interrupt();
+            firefox.join(5_000);
+        }
+    }
+
+    @Test
+    public void onlyTransportErrorsCountAgainstAHub() {
+        assertTrue(GridSessionBroker.isHubFailure(new UnreachableBrowserException("down")));
+        assertTrue(GridSessionBroker.isHubFailure(new WebDriverException(new UncheckedIOException(new IOException("reset")))));
+        assertFalse(GridSessionBroker.isHubFailure(new SessionNotCreatedException("no such browser")));
+        // RemoteWebDriver wraps a failed connection during newSession like this
+        assertTrue(GridSessionBroker.isHubFailure(
+                new SessionNotCreatedException("Could not start a new session", new UncheckedIOException(new IOException("x")))));
+        assertFalse(GridSessionBroker.isHubFailure(new WebDriverException("unknown error")));
+    }
+
+    private StubHub hub(int freeChromeSlots, boolean rejectSessions) {
+        StubHub hub = new StubHub("hub" + hubs.size(), freeChromeSlots, rejectSessions);
+        hubs.add(hub);
+        return hub;
+    }
+
+    private GridSessionBroker broker(StubHub... stubs) {
+        String[] urls = new String[stubs.length];
+        for (int i = 0; i < stubs.length; i++) {
+            urls[i] = stubs[i].url();
+        }
+        GridSessionBroker broker = GridSessionBroker.of(urls);
+        brokers.add(broker);
+        return broker;
+    }
+
+    private static final class StubHub {
+        private final String name;
+        private final HttpServer server;
+        private final AtomicInteger sessionRequests = new AtomicInteger();
+
+        private StubHub(String name, int freeChromeSlots, boolean rejectSessions) {
+            this.name = name;
+            try {
+                server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            String slots = String.join(",", Collections.nCopies(freeChromeSlots,
+                    "{\"session\":null,\"stereotype\":{\"browserName\":\"chrome\"}}"));
+            server.createContext("/status", exchange -> respond(exchange, 200,
+                    "{\"value\":{\"ready\":true,\"nodes\":[{\"availability\":\"UP\",\"slots\":[" + slots + "]}]}}"));
+            server.createContext("/session", exchange -> {
+                if ("POST".equals(exchange.getRequestMethod())) {
+                    sessionRequests.incrementAndGet();
+                    if (rejectSessions) {
+                        respond(exchange, 500, "{\"value\":{\"error\":\"session not created\","
+                                + "\"message\":\"No node supports the capabilities\",\"stacktrace\":\"\"}}");
+                    } else {
+                        respond(exchange, 200, "{\"value\":{\"sessionId\":\"" + name + "\","
+                                + "\"capabilities\":{\"browserName\":\"chrome\"}}}");
+                    }
+                } else {
+                    respond(exchange, 200, "{\"value\":null}");
+                }
+            });
+            server.start();
+        }
+
+        private String url() {
+            return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+        }
+
+        private void stop() {
+            server.stop(0);
+        }
+
+        private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+            byte[] body = json.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(status, body.length);
+            try (var out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
@@ -10,12 +10,10 @@ package selenium.grid;
  * - Code snippets and comments for practical understanding
  */
 
-package org.example;
-
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.remote.RemoteWebDriver;
+import selenium.webdriver.drivers.GridHttpClientFactory;
 
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -44,12 +42,35 @@ public class RemoteWebDriverDemo {
         URL gridURL = new URL("http://192.168.1.10:4444/wd/hub"); // Replace with your Grid IP
 
         // RemoteWebDriver communicates with the Selenium Grid Hub to run the test
-        WebDriver remoteDriver = new RemoteWebDriver(gridURL, options);
+        // (through a shared, pooled HTTP client — see GridHttpClientFactory)
+        WebDriver remoteDriver = GridHttpClientFactory.remoteDriver(gridURL, options);
         remoteDriver.get("https://example.com");
         System.out.println("Remote title: " + remoteDriver.getTitle());
         remoteDriver.quit();
     }
 
+    // ===========================
+    // 🧭 3. SEVERAL GRIDS (client-side broker)
+    // ===========================
+    // One hub is a bottleneck: when its queue fills, new sessions block.
+    // GridSessionBroker polls every hub's /status and routes each new session to the least-loaded
+    // healthy hub; failing hubs are skipped (circuit breaker), and when all are full, requests wait
+    // locally in first-come-first-served order.
+    //
+    // Run with: -Dgrid.endpoints=http://192.168.1.10:4444,http://192.168.1.11:4444
+    public static void multiGridExecution() {
+        try (GridSessionBroker broker = GridSessionBroker.fromSystemProperties()) {
+            ChromeOptions options = new ChromeOptions();
+            options.addArguments("--start-maximized");
+
+            WebDriver driver = broker.newSession(options);
+            driver.get("https://example.com");
+            System.out.println("Brokered title: " + driver.getTitle());
+            System.out.println("Grids: " + broker.describe());
+            driver.quit();
+        }
+    }
+
     // =====================================================
     // 🔧 What is Selenium Grid?
     // =====================================================
@@ -79,5 +100,6 @@ public class RemoteWebDriverDemo {
     // =====================================================
     // - Use ChromeDriver for local tests
     // - Use RemoteWebDriver(URL, options) to run tests on Grid/cloud machines
+    //   (GridHttpClientFactory.remoteDriver(URL, options) reuses connections across sessions)
     // - Grid enables parallel and distributed test execution
 }
@@ -0,0 +1,177 @@
+package selenium.webdriver.actionsapi;
+
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Encodable;
+import org.openqa.selenium.interactions.InputSource;
+import org.openqa.selenium.interactions.Interaction;
+import org.openqa.selenium.interactions.Interactive;
+import org.openqa.selenium.interactions.Sequence;
+import org.openqa.selenium.interactions.SourceType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 📦 ActionBatch — several action templates, one POST /actions
+ *
+ * Every {@code new Actions(driver)...perform()} is its own round trip. A batch queues compiled
+ * {@link ActionTemplate}s and sends them together: per input source (keyboard, mouse, wheel) the
+ * template's actions are appended one after another, and sources a template does not use are padded
+ * with zero-length pauses, so every step still happens at the same tick it would have alone.
+ *
+ * ✅ Example:
+ *     ActionBatch.on(driver)
+ *             .then(Gestures.FOCUS, nameInput)
+ *             .then(Gestures.SELECT_ALL)
+ *             .then(Gestures.COPY)
+ *             .then(Gestures.TAB)
+ *             .then(Gestures.PASTE)
+ *             .perform();   // one round trip instead of five
+ */
+public final class ActionBatch {
+
+    private static final Map<String, Object> PAUSE = Map.of("type", "pause", "duration", 0L);
+
+    private final WebDriver driver;
+    private final Keys cmdCtrl;
+    private final List<List<Map<String, Object>>> blocks = new ArrayList<>();
+
+    private ActionBatch(WebDriver driver) {
+        this.driver = driver;
+        this.cmdCtrl = ActionTemplate.Binding.cmdCtrlFor(driver);
+    }
+
+    public static ActionBatch on(WebDriver driver) {
+        return new ActionBatch(driver);
+    }
+
+    /**
+     * Queues a template bound to the given target elements (none for keyboard-only templates).
+     */
+    public ActionBatch then(ActionTemplate template, WebElement... targets) {
+        blocks.add(template.compile(driver, new ActionTemplate.Binding(List.of(targets), cmdCtrl)));
+        return this;
+    }
+
+    /**
+     * Sends everything queued so far as a single actions command and empties the batch.
+     */
+    public void perform() {
+        if (blocks.isEmpty()) {
+            return;
+        }
+        ((Interactive) driver).perform(merge(blocks));
+        blocks.clear();
+    }
+
+    /**
+     * Concatenates the blocks per input source, keeping all sources tick-aligned.
+     */
+    static List<Sequence> merge(List<List<Map<String, Object>>> blocks) {
+        Map<String, Track> tracks = new LinkedHashMap<>();
+        int ticks = 0;
+        for (List<Map<String, Object>> block : blocks) {
+            int blockTicks = 0;
+            for (Map<String, Object> encoded : block) {
+                Track track = tracks.computeIfAbsent(String.valueOf(encoded.get("id")), id -> new Track(encoded));
+                // A source first used by this block starts with pauses for all earlier ticks
+                track.padTo(ticks);
+                List<Map<String, Object>> actions = actionsOf(encoded);
+                track.actions.addAll(actions);
+                blockTicks = Math.max(blockTicks, actions.size());
+            }
+            ticks += blockTicks;
+            for (Track track : tracks.values()) {
+                track.padTo(ticks);
+            }
+        }
+
+        List<Sequence> sequences = new ArrayList<>();
+        for (Track track : tracks.values()) {
+            EncodedSource source = new EncodedSource(track.header);
+            Sequence sequence = new Sequence(source, 0);
+            for (Map<String, Object> action : track.actions) {
+                sequence.addAction(new EncodedInteraction(source, action));
+            }
+            sequences.add(sequence);
+        }
+        return sequences;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> actionsOf(Map<String, Object> encoded) {
+        return (List<Map<String, Object>>) encoded.getOrDefault("actions", List.of());
+    }
+
+    private static final class Track {
+        private final Map<String, Object> header = new LinkedHashMap<>();
+        private final List<Map<String, Object>> actions = new ArrayList<>();
+
+        private Track(Map<String, Object> encoded) {
+            encoded.forEach((key, value) -> {
+                if (!"actions".equals(key)) {
+                    header.put(key, value);
+                }
+            });
+        }
+
+        private void padTo(int ticks) {
+            while (actions.size() < ticks) {
+                actions.add(PAUSE);
+            }
+        }
+    }
+
+    /**
+     * An input source replayed from its encoded form (same id, type and parameters).
+     */
+    private record EncodedSource(Map<String, Object> header) implements InputSource, Encodable {
+
+        @Override
+        public SourceType getInputType() {
+            String type = String.valueOf(header.get("type"));
+            for (SourceType sourceType : SourceType.values()) {
+                if (type.equals(sourceType.getType())) {
+                    return sourceType;
+                }
+            }
+            return SourceType.NONE;
+        }
+
+        @Override
+        public String getName() {
+            return String.valueOf(header.get("id"));
+        }
+
+        @Override
+        public Map<String, Object> encode() {
+            return header;
+        }
+    }
+
+    /**
+     * One already-encoded action (keyDown, pointerMove, pause, ...).
+     */
+    private static final class EncodedInteraction extends Interaction implements Encodable {
+        private final Map<String, Object> encoded;
+
+        private EncodedInteraction(InputSource source, Map<String, Object> encoded) {
+            super(source);
+            this.encoded = encoded;
+        }
+
+        @Override
+        protected boolean isValidFor(SourceType sourceType) {
+            return true;
+        }
+
+        @Override
+        public Map<String, Object> encode() {
+            return encoded;
+        }
+    }
+}
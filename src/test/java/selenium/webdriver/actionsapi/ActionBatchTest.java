@@ -0,0 +1,91 @@
+package selenium.webdriver.actionsapi;
+
+import org.openqa.selenium.interactions.Sequence;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+
+public class ActionBatchTest {
+
+    private static Map<String, Object> source(String id, String type, List<Map<String, Object>> actions) {
+        return Map.of("id", id, "type", type, "actions", actions);
+    }
+
+    private static Map<String, Object> key(String type, String value) {
+        return Map.of("type", type, "value", value);
+    }
+
+    private static Map<String, Object> move(int x) {
+        return Map.of("type", "pointerMove", "duration", 0L, "x", x, "y", 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> actionsOf(Sequence sequence) {
+        return (List<Map<String, Object>>) sequence.encode().get("actions");
+    }
+
+    @Test
+    public void sourcesAreConcatenatedAndPaddedToTheSameTick() {
+        List<Map<String, Object>> typing = List.of(key("keyDown", "a"), key("keyUp", "a"));
+        List<Map<String, Object>> pointing = List.of(move(10), move(20), move(30));
+
+        List<Sequence> merged = ActionBatch.merge(List.of(
+                List.of(source("keyboard", "key", typing)),
+                List.of(source("mouse", "pointer", pointing)),
+                List.of(source("keyboard", "key", typing))));
+
+        assertEquals(merged.size(), 2);
+        List<Map<String, Object>> keyboard = actionsOf(merged.get(0));
+        List<Map<String, Object>> mouse = actionsOf(merged.get(1));
+        // 2 + 3 + 2 ticks, every source covers all of them
+        assertEquals(keyboard.size(), 7);
+        assertEquals(mouse.size(), 7);
+
+        // Keyboard idles while the mouse block runs
+        assertEquals(keyboard.subList(0, 2), typing);
+        assertEquals(keyboard.get(2).get("type"), "pause");
+        assertEquals(keyboard.get(4).get("type"), "pause");
+        assertEquals(keyboard.subList(5, 7), typing);
+
+        // Mouse first appears in the second block: pauses for the ticks before it, and after it
+        assertEquals(mouse.get(0).get("type"), "pause");
+        assertEquals(mouse.get(1).get("type"), "pause");
+        assertEquals(mouse.subList(2, 5), pointing);
+        assertEquals(mouse.get(5).get("type"), "pause");
+        assertEquals(mouse.get(6).get("type"), "pause");
+    }
+
+    @Test
+    public void shorterSourceInABlockIsPaddedToTheLongestOne() {
+        List<Map<String, Object>> press = List.of(key("keyDown", "b"));
+        List<Map<String, Object>> drag = List.of(move(1), move(2));
+
+        List<Sequence> merged = ActionBatch.merge(List.of(
+                List.of(source("keyboard", "key", press), source("mouse", "pointer", drag)),
+                List.of(source("keyboard", "key", List.of(key("keyUp", "b"))))));
+
+        List<Map<String, Object>> keyboard = actionsOf(merged.get(0));
+        List<Map<String, Object>> mouse = actionsOf(merged.get(1));
+        // The second block starts at tick 2 on both sources
+        assertEquals(keyboard, List.of(key("keyDown", "b"), Map.of("type", "pause", "duration", 0L), key("keyUp", "b")));
+        assertEquals(mouse.subList(0, 2), drag);
+        assertEquals(mouse.size(), 3);
+        assertEquals(mouse.get(2).get("type"), "pause");
+    }
+
+    @Test
+    public void sourceHeaderIsKeptWithoutItsActions() {
+        Map<String, Object> pointer = Map.of("id", "mouse", "type", "pointer",
+                "parameters", Map.of("pointerType", "mouse"), "actions", List.of(move(5)));
+
+        Map<String, Object> encoded = ActionBatch.merge(List.of(List.of(pointer))).get(0).encode();
+
+        assertEquals(encoded.get("id"), "mouse");
+        assertEquals(encoded.get("type"), "pointer");
+        assertEquals(encoded.get("parameters"), Map.of("pointerType", "mouse"));
+        assertEquals(encoded.get("actions"), List.of(move(5)));
+    }
+}
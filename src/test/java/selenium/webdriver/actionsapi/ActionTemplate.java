@@ -0,0 +1,123 @@
+package selenium.webdriver.actionsapi;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.Platform;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.interactions.Sequence;
+import selenium.webdriver.utils.WebDriverUtil;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * 🧩 ActionTemplate — an Actions sequence defined once and reused
+ *
+ * A template is a named recipe, e.g. "select-all, copy, tab, paste", written against the normal
+ * Actions builder. It is parameterized by a {@link Binding}: the target elements and the platform
+ * modifier (COMMAND on macOS, CONTROL elsewhere — taken from the BROWSER's platform, so it is right
+ * on a remote grid too).
+ *
+ * The first use of a template with a given binding "compiles" it: the builder runs once and the
+ * resulting W3C input sequences are kept in encoded form. Later uses skip the builder entirely.
+ * Run templates with {@link ActionBatch}, which merges several of them into ONE perform.
+ *
+ * ✅ Example:
+ *     ActionTemplate COPY_ALL = ActionTemplate.define("select-all, copy", (actions, b) -> actions
+ *             .keyDown(b.cmdCtrl()).sendKeys("a").sendKeys("c").keyUp(b.cmdCtrl()));
+ */
+public final class ActionTemplate {
+
+    // Element-bound compilations go stale with the page — keep only the most recent ones
+    private static final int MAX_ELEMENT_BOUND = 256;
+
+    private final String name;
+    private final BiFunction<Actions, Binding, Actions> steps;
+    private final Map<Keys, List<Map<String, Object>>> unbound = new ConcurrentHashMap<>();
+    private final Map<Binding, List<Map<String, Object>>> bound = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Binding, List<Map<String, Object>>> eldest) {
+                    return size() > MAX_ELEMENT_BOUND;
+                }
+            });
+
+    private ActionTemplate(String name, BiFunction<Actions, Binding, Actions> steps) {
+        this.name = name;
+        this.steps = steps;
+    }
+
+    public static ActionTemplate define(String name, BiFunction<Actions, Binding, Actions> steps) {
+        return new ActionTemplate(name, steps);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * The encoded input sequences for this binding, built on first use.
+     * Each entry is one input source: {"type", "id", "parameters", "actions": [...]}.
+     */
+    List<Map<String, Object>> compile(WebDriver driver, Binding binding) {
+        if (binding.targets().isEmpty()) {
+            return unbound.computeIfAbsent(binding.cmdCtrl(), cmdCtrl -> build(driver, binding));
+        }
+        List<Map<String, Object>> compiled = bound.get(binding);
+        if (compiled == null) {
+            compiled = build(driver, binding);
+            bound.put(binding, compiled);
+        }
+        return compiled;
+    }
+
+    private List<Map<String, Object>> build(WebDriver driver, Binding binding) {
+        Actions actions = steps.apply(new Actions(driver), binding);
+        return actions.getSequences().stream()
+                .map(Sequence::encode)
+                .map(Collections::unmodifiableMap)
+                .toList();
+    }
+
+    @Override
+    public String toString() {
+        return "ActionTemplate[" + name + "]";
+    }
+
+    /**
+     * What a template is parameterized by.
+     *
+     * @param targets elements the template acts on, in the order the template expects them
+     * @param cmdCtrl COMMAND on macOS, CONTROL elsewhere
+     */
+    public record Binding(List<WebElement> targets, Keys cmdCtrl) {
+
+        public WebElement target() {
+            return target(0);
+        }
+
+        public WebElement target(int index) {
+            if (index >= targets.size()) {
+                throw new IllegalArgumentException("Template expects at least " + (index + 1) + " target element(s)");
+            }
+            return targets.get(index);
+        }
+
+        /**
+         * The platform modifier for the browser this driver controls.
+         */
+        public static Keys cmdCtrlFor(WebDriver driver) {
+            Platform platform = WebDriverUtil.unwrap(driver) instanceof HasCapabilities caps
+                    && caps.getCapabilities().getPlatformName() != null
+                    ? caps.getCapabilities().getPlatformName()
+                    : Platform.getCurrent();
+            return platform.is(Platform.MAC) ? Keys.COMMAND : Keys.CONTROL;
+        }
+    }
+}
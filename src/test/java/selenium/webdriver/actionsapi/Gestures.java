@@ -0,0 +1,45 @@
+package selenium.webdriver.actionsapi;
+
+import org.openqa.selenium.Keys;
+
+/**
+ * ⌨️ Gestures — ready-made {@link ActionTemplate}s for keyboard-heavy form work
+ *
+ * All of them use the browser platform's modifier (COMMAND on macOS, CONTROL elsewhere).
+ * Chain them with {@link ActionBatch} so a whole edit is one round trip.
+ */
+public final class Gestures {
+
+    /** Click the (first) target element to give it focus. */
+    public static final ActionTemplate FOCUS = ActionTemplate.define("focus",
+            (actions, b) -> actions.click(b.target()));
+
+    public static final ActionTemplate SELECT_ALL = ActionTemplate.define("select-all",
+            (actions, b) -> actions.keyDown(b.cmdCtrl()).sendKeys("a").keyUp(b.cmdCtrl()));
+
+    public static final ActionTemplate COPY = ActionTemplate.define("copy",
+            (actions, b) -> actions.keyDown(b.cmdCtrl()).sendKeys("c").keyUp(b.cmdCtrl()));
+
+    public static final ActionTemplate CUT = ActionTemplate.define("cut",
+            (actions, b) -> actions.keyDown(b.cmdCtrl()).sendKeys("x").keyUp(b.cmdCtrl()));
+
+    public static final ActionTemplate PASTE = ActionTemplate.define("paste",
+            (actions, b) -> actions.keyDown(b.cmdCtrl()).sendKeys("v").keyUp(b.cmdCtrl()));
+
+    public static final ActionTemplate TAB = ActionTemplate.define("tab",
+            (actions, b) -> actions.sendKeys(Keys.TAB));
+
+    /** Select everything in the focused field and delete it. */
+    public static final ActionTemplate CLEAR_FIELD = ActionTemplate.define("clear-field",
+            (actions, b) -> actions.keyDown(b.cmdCtrl()).sendKeys("a").keyUp(b.cmdCtrl()).sendKeys(Keys.BACK_SPACE));
+
+    /** "select-all, copy, tab, paste" — duplicate the focused field's value into the next field. */
+    public static final ActionTemplate COPY_TO_NEXT_FIELD = ActionTemplate.define("select-all, copy, tab, paste",
+            (actions, b) -> actions
+                    .keyDown(b.cmdCtrl()).sendKeys("a").sendKeys("c").keyUp(b.cmdCtrl())
+                    .sendKeys(Keys.TAB)
+                    .keyDown(b.cmdCtrl()).sendKeys("v").keyUp(b.cmdCtrl()));
+
+    private Gestures() {
+    }
+}
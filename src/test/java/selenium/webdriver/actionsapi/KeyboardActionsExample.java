@@ -8,6 +8,7 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.interactions.Actions;
 import org.testng.annotations.Test;
+import selenium.webdriver.runner.BaseTest;
 
 /**
  * 🔤 Keyboard Actions in Selenium WebDriver
@@ -30,7 +31,13 @@ import org.testng.annotations.Test;
  *A
  * ✅ Example 1: Hold SHIFT and type 'A'
  */
-public class KeyboardActionsExample {
+public class KeyboardActionsExample extends BaseTest {
+
+    // Defined once, compiled on first use, reused by every test that needs it
+    private static final ActionTemplate APPEND_AT_CAPITAL_G = ActionTemplate.define("append @G", (actions, b) -> actions
+            .keyDown(Keys.SHIFT).sendKeys("2").keyUp(Keys.SHIFT)
+            .keyDown(Keys.SHIFT).sendKeys("g").keyUp(Keys.SHIFT));
+
     public static void main(String[] args) {
         WebDriver driver = new ChromeDriver();
         driver.get("https://example.com");
@@ -89,7 +96,7 @@ public class KeyboardActionsExample {
     }
 
     @Test
-    public static void completeForm() throws InterruptedException {
+    public void completeForm() {
         /*
         ✅ Goal Recap
             1.	Type "Luke" into Full Name
@@ -106,23 +113,20 @@ public class KeyboardActionsExample {
          By passwordInput = By.id("password");
          By submitButton = By.cssSelector("input[type='submit']");
 
-        WebDriver driver = new ChromeDriver();
+        WebDriver driver = driver();
         driver.manage().window().maximize();
         driver.get("https://www.tutorialspoint.com/selenium/practice/text-box.php");
 
         // Send name to Full Name input
         driver.findElement(fullnameInput).sendKeys("Luke");
-        new Actions(driver)
-                .click(driver.findElement(fullnameInput))               // focus on the field
-                .keyDown(Keys.COMMAND).sendKeys("a").sendKeys("c").keyUp(Keys.COMMAND)  // CMD + A + C
-                .sendKeys(Keys.TAB)                                        // Tab to email field
-                .keyDown(Keys.COMMAND).sendKeys("v").keyUp(Keys.COMMAND)               // CMD + V
-                // Append @ using SHIFT+2
-                .keyDown(Keys.SHIFT).sendKeys("2").keyUp(Keys.SHIFT)
-                // Append capital G using SHIFT+g
-                .keyDown(Keys.SHIFT).sendKeys("g").keyUp(Keys.SHIFT)
+
+        // 📦 Reusable templates, ONE POST /actions for the whole edit.
+        //    CMD vs CTRL comes from the browser's platform, not a hard-coded Keys.COMMAND
+        ActionBatch.on(driver)
+                .then(Gestures.FOCUS, driver.findElement(fullnameInput))  // focus on the field
+                .then(Gestures.COPY_TO_NEXT_FIELD)                        // CMD/CTRL + A + C, TAB, CMD/CTRL + V
+                .then(APPEND_AT_CAPITAL_G)                                // "@" via SHIFT+2, "G" via SHIFT+g
                 .perform();
-        Thread.sleep(2000);
-        driver.quit();
+        Settle.after(driver, driver.findElement(emailInput));
     }
 }
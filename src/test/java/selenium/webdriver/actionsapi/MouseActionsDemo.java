@@ -1,19 +1,21 @@
 package selenium.webdriver.actionsapi;
 
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.interactions.Actions;
 import org.testng.annotations.Test;
+import selenium.webdriver.runner.BaseTest;
 
 import java.time.Duration;
 
-public class MouseActionsDemo {
+import static org.testng.Assert.assertEquals;
+
+public class MouseActionsDemo extends BaseTest {
 
     @Test
-    public static void mouseActions()throws InterruptedException {
+    public void mouseActions() {
 
-        // Set up WebDriver (Chrome in this case)
-        WebDriver driver = new ChromeDriver();
+        // Set up WebDriver (thread-confined session from the pool)
+        WebDriver driver = driver();
         driver.manage().window().maximize();
         driver.get("https://demoqa.com/buttons"); // Demo site with mouse interactions
 
@@ -23,23 +25,23 @@ public class MouseActionsDemo {
         // 1️⃣ Hover over an element (used for dropdowns, tooltips, etc.)
         WebElement hoverTarget = driver.findElement(By.cssSelector("#doubleClickBtn"));
         actions.moveToElement(hoverTarget).perform();
+        Settle.after(driver, hoverTarget); // 🌊 hover transition finished
 
-        Thread.sleep(2000);
         // 2️⃣ Right-click (context click)
         WebElement rightClickButton = driver.findElement(By.id("rightClickBtn"));
         actions.contextClick(rightClickButton).perform();
+        Settle.after(driver);
 
-        Thread.sleep(2000);
         // 3️⃣ Double-click
         WebElement doubleClickButton = driver.findElement(By.id("doubleClickBtn"));
         actions.doubleClick(doubleClickButton).perform();
+        Settle.after(driver);
 
-        Thread.sleep(2000);
         // 4️⃣ Single Click using Actions (alternative to element.click())
         WebElement singleClickButton = driver.findElement(By.xpath("//button[text()='Click Me']"));
         actions.click(singleClickButton).perform();
+        Settle.after(driver);
 
-        Thread.sleep(2000);
         // 🔁 5️⃣ Click-and-hold and release (can be used for selection or drag-start)
         WebElement holdBox = driver.findElement(By.cssSelector("div[class='element-list collapse show'] li[id='item-1'] span[class='text']")); // Assume this is a draggable box
         actions.clickAndHold(holdBox).pause(1000).release().perform();
@@ -49,8 +51,8 @@ public class MouseActionsDemo {
         WebElement source = driver.findElement(By.id("draggable"));
         WebElement target = driver.findElement(By.id("droppable"));
         actions.dragAndDrop(source, target).perform();
+        Settle.after(driver, source); // dropped box has stopped moving
 
-        Thread.sleep(2000);
         // 7️⃣ Drag and drop using clickAndHold → moveToElement → release
         driver.get("https://demoqa.com/droppable");
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(5));
@@ -58,9 +60,27 @@ public class MouseActionsDemo {
         WebElement source2 = driver.findElement(By.id("draggable"));
         WebElement target2 = driver.findElement(By.id("droppable"));
         actions.clickAndHold(source2).moveToElement(target2).release().build().perform();
+        Settle.after(driver, source2);
+        // Browser is released back to the pool by BaseTest
+    }
+
+    @Test
+    public void hoverTransitionIsWaitedOut() {
+        WebDriver driver = driver();
+        // A card that fades in place on hover (its rect never changes) next to a spinner that never stops.
+        // Class selectors only: a '#' would end the data: URL
+        driver.get("data:text/html,<style>"
+                + ".card{width:200px;height:100px;background:teal;opacity:.2;transition:opacity 600ms linear}"
+                + ".card:hover{opacity:1}"
+                + ".spinner{width:20px;height:20px;background:gray;animation:spin 1s linear infinite}"
+                + "@keyframes spin{to{transform:rotate(360deg)}}"
+                + "</style><div class='card'></div><div class='spinner'></div>");
+
+        WebElement card = driver.findElement(By.className("card"));
+        new Actions(driver).moveToElement(card).perform();
+        Settle.after(driver, card); // 🌊 returns once the fade has ended, the spinner doesn't hold it up
 
-        Thread.sleep(2000);
-        // Close browser
-        driver.quit();
+        Object opacity = ((JavascriptExecutor) driver).executeScript("return getComputedStyle(arguments[0]).opacity", card);
+        assertEquals(opacity, "1");
     }
 }
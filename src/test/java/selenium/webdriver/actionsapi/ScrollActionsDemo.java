@@ -10,7 +10,7 @@ import org.openqa.selenium.interactions.WheelInput;
 import java.time.Duration;
 
 public class ScrollActionsDemo {
-    public static void main(String[] args) throws InterruptedException {
+    public static void main(String[] args) {
 
         // 1️⃣ Setup WebDriver
         WebDriver driver = new ChromeDriver();
@@ -25,7 +25,7 @@ public class ScrollActionsDemo {
         new Actions(driver)
                 .scrollToElement(iframe)
                 .perform();
-        Thread.sleep(1500);
+        Settle.after(driver, iframe); // 🌊 waits for the scroll to finish, not a fixed 1.5 s
 
         // 3️⃣ Scenario 2: Scroll by given amount (scrolls vertically to footer)
         WebElement footer = driver.findElement(By.tagName("footer"));
@@ -33,28 +33,28 @@ public class ScrollActionsDemo {
         new Actions(driver)
                 .scrollByAmount(0, deltaY)
                 .perform();
-        Thread.sleep(1500);
+        Settle.after(driver);
 
         // 4️⃣ Scenario 3: Scroll from an element by a given amount
         WheelInput.ScrollOrigin scrollOriginFromElement = WheelInput.ScrollOrigin.fromElement(iframe);
         new Actions(driver)
                 .scrollFromOrigin(scrollOriginFromElement, 0, 200)
                 .perform();
-        Thread.sleep(1500);
+        Settle.after(driver);
 
         // 5️⃣ Scenario 4: Scroll from an element with an offset
         WheelInput.ScrollOrigin offsetFromFooter = WheelInput.ScrollOrigin.fromElement(footer, 0, -50);
         new Actions(driver)
                 .scrollFromOrigin(offsetFromFooter, 0, 200)
                 .perform();
-        Thread.sleep(1500);
+        Settle.after(driver);
 
         // 6️⃣ Scenario 5: Scroll from a viewport offset
         WheelInput.ScrollOrigin offsetFromViewport = WheelInput.ScrollOrigin.fromViewport(10, 10);
         new Actions(driver)
                 .scrollFromOrigin(offsetFromViewport, 0, 200)
                 .perform();
-        Thread.sleep(1500);
+        Settle.after(driver);
 
         // Close browser
         driver.quit();
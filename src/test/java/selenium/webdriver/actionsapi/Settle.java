@@ -0,0 +1,134 @@
+package selenium.webdriver.actionsapi;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import selenium.webdriver.listeners.SeleniumEvents;
+
+import java.time.Duration;
+
+/**
+ * 🌊 Settle — wait for the page to stop moving after a gesture
+ *
+ * {@code perform()} returns as soon as the browser has dispatched the input events; smooth scrolling,
+ * hover transitions, menus sliding in and drop animations are still running. Instead of a fixed
+ * {@code Thread.sleep}, call Settle right after the perform:
+ *
+ *     new Actions(driver).scrollToElement(footer).perform();
+ *     Settle.after(driver);                 // scroll position + animations
+ *     Settle.after(driver, droppedBox);     // ... + that element's position and size
+ *
+ * The page counts as settled when, for {@code settle.frames} consecutive animation frames,
+ *  ✅ the window scroll position and the scroll offsets of the element's scrollable ancestors
+ *  ✅ the element's bounding rect (when one is given)
+ * have not changed, and
+ *  ✅ no finite CSS animation / transition is running (document.getAnimations()) — a hover
+ *     transition moves every frame even when the count of running animations stays at 1.
+ *     Infinite animations (spinners, pulsing badges) never end and are ignored.
+ * The check runs inside the page in a single executeAsyncScript call, so a page that is already
+ * still costs one round trip plus a few frames (~50 ms).
+ *
+ * 🔧 Configuration (system properties):
+ *  - settle.frames  — consecutive unchanged frames required (default: 3)
+ *  - settle.timeout — milliseconds before giving up with a TimeoutException (default: 5000)
+ */
+public final class Settle {
+
+    private static final int FRAMES = Integer.getInteger("settle.frames", 3);
+    private static final Duration TIMEOUT = Duration.ofMillis(Integer.getInteger("settle.timeout", 5000));
+    private static final Duration SCRIPT_TIMEOUT_MARGIN = Duration.ofSeconds(2);
+
+    /**
+     * Compares a snapshot of everything that moves once per animation frame.
+     * Hidden documents get no animation frames, so they fall back to a 16 ms timer.
+     * Resolves to null when settled, or to the last snapshot when timed out.
+     */
+    private static final String SETTLE_SCRIPT = """
+            var el = arguments[0], frames = arguments[1], timeoutMs = arguments[2];
+            var done = arguments[arguments.length - 1];
+            var start = performance.now(), last = null, stable = 0;
+            function scrollables() {
+              var list = [document.scrollingElement || document.documentElement];
+              for (var n = el && el.parentElement; n; n = n.parentElement) {
+                if (n.scrollHeight > n.clientHeight || n.scrollWidth > n.clientWidth) { list.push(n); }
+              }
+              return list;
+            }
+            function snapshot() {
+              var parts = [window.scrollX, window.scrollY];
+              scrollables().forEach(function (n) { parts.push(n.scrollLeft, n.scrollTop); });
+              if (el && el.isConnected) {
+                var r = el.getBoundingClientRect();
+                parts.push(r.x, r.y, r.width, r.height);
+              }
+              return parts.join(',');
+            }
+            function animating() {
+              if (!document.getAnimations) { return 0; }
+              return document.getAnimations().filter(function (a) {
+                return a.playState === 'running' && !(a.effect && a.effect.getComputedTiming().endTime === Infinity);
+              }).length;
+            }
+            function next() {
+              if (document.hidden) { setTimeout(check, 16); } else { requestAnimationFrame(check); }
+            }
+            function check() {
+              var running = animating();
+              var current = snapshot() + ';' + running + ' animating';
+              stable = current === last && running === 0 ? stable + 1 : 0;
+              last = current;
+              if (stable >= frames) { done(null); return; }
+              if (performance.now() - start >= timeoutMs) { done(current); return; }
+              next();
+            }
+            next();
+            """;
+
+    private Settle() {
+    }
+
+    /**
+     * Blocks until scrolling and finite animations on the page have stopped.
+     */
+    public static void after(WebDriver driver) {
+        await(driver, null, FRAMES, TIMEOUT);
+    }
+
+    /**
+     * Blocks until scrolling and finite animations have stopped and {@code element} is no longer moving or resizing.
+     */
+    public static void after(WebDriver driver, WebElement element) {
+        await(driver, element, FRAMES, TIMEOUT);
+    }
+
+    /**
+     * @param element  element whose rect and scroll containers are watched, or null for the page only
+     * @param frames   consecutive unchanged animation frames required
+     * @throws TimeoutException if the page is still moving after {@code timeout}
+     */
+    public static void await(WebDriver driver, WebElement element, int frames, Duration timeout) {
+        SeleniumEvents.recordWait("settle " + frames + " frames", () -> {
+            awaitInPage(driver, element, frames, timeout);
+            return null;
+        });
+    }
+
+    private static void awaitInPage(WebDriver driver, WebElement element, int frames, Duration timeout) {
+        WebDriver.Timeouts timeouts = driver.manage().timeouts();
+        Duration originalScriptTimeout = timeouts.getScriptTimeout();
+        timeouts.scriptTimeout(timeout.plus(SCRIPT_TIMEOUT_MARGIN));
+        try {
+            Object lastSnapshot = ((JavascriptExecutor) driver).executeAsyncScript(
+                    SETTLE_SCRIPT, element, frames, timeout.toMillis());
+            if (lastSnapshot != null) {
+                throw new TimeoutException("Page still moving after " + timeout.toMillis() + " ms (last frame: " + lastSnapshot + ")");
+            }
+        } catch (ScriptTimeoutException e) {
+            throw new TimeoutException("Page did not settle within " + timeout.toMillis() + " ms", e);
+        } finally {
+            timeouts.scriptTimeout(originalScriptTimeout);
+        }
+    }
+}
@@ -3,25 +3,26 @@ package selenium.webdriver.basics;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.chrome.ChromeDriver;
 import org.testng.annotations.Test;
+import selenium.webdriver.listeners.EventLog;
+import selenium.webdriver.runner.BaseTest;
 
 import java.time.Duration;
 
-public class Basics {
+public class Basics extends BaseTest {
 
 
     @Test
     public void demoSeleniumBasics() {
-        // 1. Start the session
-        WebDriver driver = new ChromeDriver();
+        // 1. Start the session (a warm, thread-confined session from the pool)
+        WebDriver driver = driver();
 
         // 2. Take action on browser (navigate to URL)
         driver.get("https://www.selenium.dev/selenium/web/web-form.html");
 
         // 3. Request browser information
         String title = driver.getTitle();
-        System.out.println("Page Title: " + title);
+        EventLog.event("page.title", "title", title);
 
         // 4. Establish Waiting Strategy (implicit wait for demo purposes)
         driver.manage().timeouts().implicitlyWait(Duration.ofMillis(500));
@@ -36,9 +37,8 @@ public class Basics {
 
         // 7. Request element information
         WebElement message = driver.findElement(By.id("message"));
-        System.out.println("Message Displayed: " + message.getText());
+        EventLog.event("message.displayed", "text", message.getText());
 
-        // 8. End the session
-        driver.quit();
+        // 8. End the session — BaseTest hands it back to the pool after the test
     }
 }
@@ -0,0 +1,347 @@
+package selenium.webdriver.drivers;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.Credentials;
+import org.openqa.selenium.UsernameAndPassword;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 🌐 GridHttpClientFactory — one tuned, pooled HTTP client for all grid sessions
+ *
+ * {@code new RemoteWebDriver(gridUrl, options)} gives every session its own client with default
+ * settings, so each session pays fresh TCP (and TLS) handshakes and pulls multi-MB base64 screenshots
+ * and page sources uncompressed. This factory hands every session a thin view on ONE shared
+ * {@link java.net.http.HttpClient}:
+ *
+ * ✅ Keep-alive connection pool shared across sessions (new sessions reuse warm connections)
+ * ✅ HTTP/1.1 keep-alive by default; HTTP/2 (one multiplexed connection) on request — over plain
+ *    http:// the JDK negotiates it with an h2c Upgrade that many hubs and proxies in front of them mishandle
+ * ✅ Accept-Encoding: gzip, transparently decoded — screenshots and page source shrink on the wire
+ * ✅ Configurable connect / read timeouts
+ * ✅ Retries on connection failures for idempotent requests only (GET, DELETE) — never for POST,
+ *    which would repeat clicks, typing or session creation
+ *
+ * 🔧 Configuration (system properties):
+ *  - grid.http.connectTimeout — seconds (default: 10)
+ *  - grid.http.readTimeout    — seconds (default: 180, same as Selenium's default)
+ *  - grid.http.retries        — extra attempts for idempotent requests (default: 2)
+ *  - grid.http.version        — HTTP_1_1 or HTTP_2 (default: HTTP_1_1)
+ *  - grid.http.poolSize       — max idle pooled connections, 0 = unbounded (default: 0)
+ *
+ * ⚠️ grid.http.poolSize is applied through the JDK's JVM-wide jdk.httpclient.connectionPoolSize
+ * property, set when this class is loaded (unless it is already set) — it then applies to every
+ * java.net.http client in the JVM, not only to grid sessions.
+ *
+ * WebSockets (CDP/BiDi through the grid) and configs with a proxy or a custom SSLContext are
+ * delegated to Selenium's default client.
+ *
+ * 📦 sendRaw() reaches a session's server through the same pooled client, base URL and credentials
+ * with JDK body publishers/handlers — for uploads and downloads too large for Selenium's in-memory
+ * HttpRequest/HttpResponse.
+ */
+public final class GridHttpClientFactory implements HttpClient.Factory {
+
+    private static final Duration CONNECT_TIMEOUT =
+            Duration.ofSeconds(Integer.getInteger("grid.http.connectTimeout", 10));
+    private static final Duration READ_TIMEOUT =
+            Duration.ofSeconds(Integer.getInteger("grid.http.readTimeout", 180));
+    private static final int RETRIES = Integer.getInteger("grid.http.retries", 2);
+    private static final java.net.http.HttpClient.Version VERSION =
+            java.net.http.HttpClient.Version.valueOf(System.getProperty("grid.http.version", "HTTP_1_1"));
+
+    // Headers the JDK client sets itself and refuses to take from callers
+    private static final Set<String> RESTRICTED_HEADERS =
+            Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private static final GridHttpClientFactory INSTANCE = new GridHttpClientFactory();
+
+    static {
+        // Read once by the JDK's connection pool — must be set before the first client is built.
+        // JVM-global on purpose (see the class doc); an explicit -Djdk.httpclient.connectionPoolSize wins
+        if (System.getProperty("jdk.httpclient.connectionPoolSize") == null) {
+            System.setProperty("jdk.httpclient.connectionPoolSize", System.getProperty("grid.http.poolSize", "0"));
+        }
+    }
+
+    // Driver → the config it was built with (weak keys: the config holds no reference back to the driver)
+    private static final Map<RemoteWebDriver, ClientConfig> CONFIGS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // One JDK client per connect timeout (the only client-level setting a ClientConfig can vary)
+    private final Map<Duration, java.net.http.HttpClient> shared = new ConcurrentHashMap<>();
+    private final HttpClient.Factory fallback = HttpClient.Factory.createDefault();
+
+    private GridHttpClientFactory() {
+    }
+
+    public static GridHttpClientFactory getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Selenium's default config with this factory's timeouts applied.
+     */
+    public static ClientConfig defaultConfig(URL gridUrl) {
+        return ClientConfig.defaultConfig()
+                .baseUrl(gridUrl)
+                .connectionTimeout(CONNECT_TIMEOUT)
+                .readTimeout(READ_TIMEOUT);
+    }
+
+    /**
+     * Drop-in replacement for {@code new RemoteWebDriver(gridUrl, capabilities)} that uses the shared client.
+     */
+    public static RemoteWebDriver remoteDriver(URL gridUrl, Capabilities capabilities) {
+        return remoteDriver(defaultConfig(gridUrl), capabilities);
+    }
+
+    public static RemoteWebDriver remoteDriver(ClientConfig config, Capabilities capabilities) {
+        HttpCommandExecutor executor = new HttpCommandExecutor(INSTANCE.createClient(config), config.baseUrl());
+        RemoteWebDriver driver = new RemoteWebDriver(executor, capabilities, INSTANCE, config);
+        CONFIGS.put(driver, config);
+        return driver;
+    }
+
+    /**
+     * True if {@link #sendRaw} can reach this driver's server: it was created here, without a proxy
+     * or custom SSLContext.
+     */
+    public static boolean canSendRaw(WebDriver driver) {
+        ClientConfig config = driver instanceof RemoteWebDriver remote ? CONFIGS.get(remote) : null;
+        return config != null && config.proxy() == null && config.sslContext() == null;
+    }
+
+    /**
+     * Sends {@code method path} (e.g. {@code "/session/<id>/se/file"}) to the driver's server with the
+     * session's base URL, credentials and read timeout, through the shared pooled client.
+     *
+     * @throws IllegalArgumentException if {@link #canSendRaw} is false for the driver
+     */
+    public static <T> java.net.http.HttpResponse<T> sendRaw(RemoteWebDriver driver, String method, String path,
+                                                             String contentType,
+                                                             java.net.http.HttpRequest.BodyPublisher body,
+                                                             java.net.http.HttpResponse.BodyHandler<T> handler)
+            throws IOException, InterruptedException {
+        if (!canSendRaw(driver)) {
+            throw new IllegalArgumentException("Session " + driver.getSessionId() + " was not created by GridHttpClientFactory");
+        }
+        ClientConfig config = CONFIGS.get(driver);
+        java.net.http.HttpRequest.Builder request = java.net.http.HttpRequest.newBuilder(
+                        URI.create(config.baseUri().toString().replaceAll("/$", "") + path))
+                .timeout(config.readTimeout())
+                .header("Content-Type", contentType)
+                .method(method, body);
+        String authorization = basicAuth(config.credentials());
+        if (authorization != null) {
+            request.header("Authorization", authorization);
+        }
+        return INSTANCE.jdkClient(config.connectionTimeout()).send(request.build(), handler);
+    }
+
+    @Override
+    public HttpClient createClient(ClientConfig config) {
+        if (config.proxy() != null || config.sslContext() != null) {
+            return fallback.createClient(config);
+        }
+        return new PooledClient(jdkClient(config.connectionTimeout()), config, fallback);
+    }
+
+    private java.net.http.HttpClient jdkClient(Duration connectTimeout) {
+        return shared.computeIfAbsent(connectTimeout, timeout ->
+                java.net.http.HttpClient.newBuilder()
+                        .version(VERSION)
+                        .connectTimeout(timeout)
+                        .followRedirects(java.net.http.HttpClient.Redirect.NEVER)
+                        .build());
+    }
+
+    private static String basicAuth(Credentials credentials) {
+        if (credentials instanceof UsernameAndPassword user) {
+            String token = user.username() + ":" + user.password();
+            return "Basic " + Base64.getEncoder().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+        }
+        return null;
+    }
+
+    private static final class PooledClient implements HttpClient {
+
+        private final java.net.http.HttpClient jdk;
+        private final ClientConfig config;
+        private final HttpClient.Factory fallback;
+        private final HttpHandler handler;
+        private final String authorization;
+        private volatile HttpClient sockets;
+
+        private PooledClient(java.net.http.HttpClient jdk, ClientConfig config, HttpClient.Factory fallback) {
+            this.jdk = jdk;
+            this.config = config;
+            this.fallback = fallback;
+            // Keep Selenium's filters (user agent, logging, optional retries) in front of the transport
+            this.handler = config.filter().andFinally(this::send);
+            this.authorization = basicAuth(config.credentials());
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) {
+            return handler.execute(request);
+        }
+
+        @Override
+        public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+            HttpClient client = sockets;
+            if (client == null) {
+                synchronized (this) {
+                    if (sockets == null) {
+                        sockets = fallback.createClient(config);
+                    }
+                    client = sockets;
+                }
+            }
+            return client.openSocket(request, listener);
+        }
+
+        @Override
+        public void close() {
+            // The JDK client is shared by every session — only the per-session socket client is ours
+            if (sockets != null) {
+                sockets.close();
+            }
+        }
+
+        private HttpResponse send(HttpRequest request) {
+            java.net.http.HttpRequest jdkRequest = toJdk(request);
+            boolean idempotent = request.getMethod() == HttpMethod.GET || request.getMethod() == HttpMethod.DELETE;
+            int attempts = idempotent ? RETRIES + 1 : 1;
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return fromJdk(jdk.send(jdkRequest, java.net.http.HttpResponse.BodyHandlers.ofInputStream()));
+                } catch (HttpConnectTimeoutException e) {
+                    // No connection was made, so nothing reached the node — retry like any connection failure
+                    if (attempt >= attempts) {
+                        throw new UncheckedIOException(e);
+                    }
+                    backOff(attempt);
+                } catch (HttpTimeoutException e) {
+                    // A read timeout means the node is busy, not that the connection broke — don't pile on
+                    throw new UncheckedIOException(e);
+                } catch (IOException e) {
+                    if (attempt >= attempts) {
+                        throw new UncheckedIOException(e);
+                    }
+                    backOff(attempt);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while talking to " + config.baseUri(), e);
+                }
+            }
+        }
+
+        private java.net.http.HttpRequest toJdk(HttpRequest request) {
+            java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder(uriOf(request))
+                    .timeout(config.readTimeout())
+                    .header("Accept-Encoding", "gzip");
+            for (String name : request.getHeaderNames()) {
+                if (RESTRICTED_HEADERS.contains(name.toLowerCase())) {
+                    continue;
+                }
+                for (String value : request.getHeaders(name)) {
+                    builder.header(name, value);
+                }
+            }
+            if (authorization != null) {
+                builder.header("Authorization", authorization);
+            }
+            java.net.http.HttpRequest.BodyPublisher body = switch (request.getMethod()) {
+                case POST, PUT, PATCH -> java.net.http.HttpRequest.BodyPublishers.ofByteArray(bytesOf(request));
+                default -> java.net.http.HttpRequest.BodyPublishers.noBody();
+            };
+            return builder.method(request.getMethod().name(), body).build();
+        }
+
+        private URI uriOf(HttpRequest request) {
+            String path = request.getUri();
+            String base = config.baseUri().toString();
+            StringBuilder uri = new StringBuilder(path.startsWith("http") ? path
+                    : base.replaceAll("/$", "") + (path.startsWith("/") ? path : "/" + path));
+            StringJoiner query = new StringJoiner("&");
+            for (String name : request.getQueryParameterNames()) {
+                for (String value : request.getQueryParameters(name)) {
+                    query.add(URLEncoder.encode(name, StandardCharsets.UTF_8) + "="
+                            + URLEncoder.encode(value, StandardCharsets.UTF_8));
+                }
+            }
+            if (query.length() > 0) {
+                uri.append(uri.indexOf("?") < 0 ? '?' : '&').append(query);
+            }
+            return URI.create(uri.toString());
+        }
+
+        private static HttpResponse fromJdk(java.net.http.HttpResponse<InputStream> jdkResponse) throws IOException {
+            HttpResponse response = new HttpResponse().setStatus(jdkResponse.statusCode());
+            boolean gzip = false;
+            for (Map.Entry<String, List<String>> header : jdkResponse.headers().map().entrySet()) {
+                String name = header.getKey();
+                if (name.equalsIgnoreCase("content-encoding") && header.getValue().contains("gzip")) {
+                    // Decoded below, so the body Selenium sees is no longer gzip
+                    gzip = true;
+                    continue;
+                }
+                if (name.equalsIgnoreCase("content-length") || name.startsWith(":")) {
+                    continue;
+                }
+                for (String value : header.getValue()) {
+                    response.addHeader(name, value);
+                }
+            }
+            try (InputStream raw = jdkResponse.body();
+                 InputStream body = gzip ? new GZIPInputStream(raw, 64 * 1024) : raw) {
+                return response.setContent(Contents.bytes(body.readAllBytes()));
+            }
+        }
+
+        private static byte[] bytesOf(HttpRequest request) {
+            try (InputStream in = request.getContent().get()) {
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static void backOff(int attempt) {
+            try {
+                Thread.sleep(100L * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
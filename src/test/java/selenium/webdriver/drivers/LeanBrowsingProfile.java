@@ -0,0 +1,310 @@
+package selenium.webdriver.drivers;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import selenium.webdriver.utils.WebDriverUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * 🪶 LeanBrowsingProfile — don't download what the test never looks at
+ *
+ * Most UI tests assert on the DOM, yet every page load still pulls images, fonts, media,
+ * analytics and ad scripts. Third-party-heavy pages load roughly twice as fast without them.
+ *
+ * The profile is declarative:
+ *  - block(urlPattern)            — e.g. "*doubleclick.net*" (wildcards: *)
+ *  - block(ResourceType...)       — e.g. IMAGE, FONT, MEDIA
+ *  - stub(urlPattern, type, body) — answer locally instead of hitting the network
+ *  - allow(...)                   — per-test override of a default rule
+ *
+ * It is applied in two places:
+ *  1. applyTo(ChromeOptions) — browser prefs (image loading off) before launch, merged into any prefs already set
+ *  2. attach(driver)         — CDP network interception on the running session:
+ *       URL patterns  → Network.setBlockedURLs (filtered inside the browser, no round trips)
+ *       types + stubs → Fetch.enable with matching patterns only, so other requests are never paused
+ *
+ * ⚠️ The image pref switches images off for the whole browser, for its lifetime: a later
+ * Interception.update(...allow(IMAGE)) cannot bring them back. Tests that need images on a
+ * lean session should leave IMAGE in the profile for attach() only (and not call applyTo),
+ * or launch from a profile that already allows them.
+ *
+ * ✅ Example:
+ *     LeanBrowsingProfile profile = LeanBrowsingProfile.defaults().allow(ResourceType.IMAGE);
+ *     WebDriver driver = new ChromeDriver(profile.applyTo(new ChromeOptions()));
+ *     LeanBrowsingProfile.Interception interception = profile.attach(driver);
+ *     driver.get("https://demoqa.com/buttons");
+ *     System.out.println(interception.counters());
+ */
+public class LeanBrowsingProfile {
+
+    /**
+     * CDP resource types (Network.ResourceType).
+     */
+    public enum ResourceType {
+        IMAGE("Image"), FONT("Font"), MEDIA("Media"), STYLESHEET("Stylesheet"), SCRIPT("Script"),
+        XHR("XHR"), FETCH("Fetch"), PING("Ping"), OTHER("Other");
+
+        private final String cdpName;
+
+        ResourceType(String cdpName) {
+            this.cdpName = cdpName;
+        }
+    }
+
+    private static final List<String> TRACKERS = List.of(
+            "*google-analytics.com*", "*googletagmanager.com*", "*doubleclick.net*",
+            "*googlesyndication.com*", "*adservice.google.*", "*connect.facebook.net*",
+            "*hotjar.com*", "*scorecardresearch.com*", "*amazon-adsystem.com*");
+
+    private final Set<String> blockedUrls = new LinkedHashSet<>();
+    private final Set<ResourceType> blockedTypes = EnumSet.noneOf(ResourceType.class);
+    private final Map<String, Stub> stubs = new LinkedHashMap<>();
+
+    private record Stub(String contentType, String body) {
+    }
+
+    /**
+     * Empty profile — blocks nothing.
+     */
+    public static LeanBrowsingProfile none() {
+        return new LeanBrowsingProfile();
+    }
+
+    /**
+     * Blocks images, fonts, media and well-known analytics/ad hosts.
+     */
+    public static LeanBrowsingProfile defaults() {
+        LeanBrowsingProfile profile = new LeanBrowsingProfile()
+                .block(ResourceType.IMAGE, ResourceType.FONT, ResourceType.MEDIA);
+        TRACKERS.forEach(profile::block);
+        return profile;
+    }
+
+    public LeanBrowsingProfile block(String urlPattern) {
+        blockedUrls.add(urlPattern);
+        return this;
+    }
+
+    public LeanBrowsingProfile block(ResourceType... types) {
+        blockedTypes.addAll(List.of(types));
+        return this;
+    }
+
+    public LeanBrowsingProfile stub(String urlPattern, String contentType, String body) {
+        stubs.put(urlPattern, new Stub(contentType, body));
+        return this;
+    }
+
+    public LeanBrowsingProfile allow(String urlPattern) {
+        blockedUrls.remove(urlPattern);
+        stubs.remove(urlPattern);
+        return this;
+    }
+
+    public LeanBrowsingProfile allow(ResourceType... types) {
+        List.of(types).forEach(blockedTypes::remove);
+        return this;
+    }
+
+    /**
+     * Independent copy, for per-test changes that must not leak into the shared profile.
+     */
+    public LeanBrowsingProfile copy() {
+        LeanBrowsingProfile copy = new LeanBrowsingProfile();
+        copy.blockedUrls.addAll(blockedUrls);
+        copy.blockedTypes.addAll(blockedTypes);
+        copy.stubs.putAll(stubs);
+        return copy;
+    }
+
+    /**
+     * Launch-time settings that need no interception. Prefs already set on {@code options} are kept.
+     * Blocking IMAGE here is browser-wide and permanent — see the class comment.
+     */
+    public ChromeOptions applyTo(ChromeOptions options) {
+        Map<String, Object> prefs = new HashMap<>();
+        if (options.asMap().get(ChromeOptions.CAPABILITY) instanceof Map<?, ?> chrome
+                && chrome.get("prefs") instanceof Map<?, ?> existing) {
+            existing.forEach((key, value) -> prefs.put(String.valueOf(key), value));
+        }
+        if (blockedTypes.contains(ResourceType.IMAGE)) {
+            // 2 = block — images are never requested at all
+            prefs.put("profile.managed_default_content_settings.images", 2);
+        }
+        if (!prefs.isEmpty()) {
+            options.setExperimentalOption("prefs", prefs);
+        }
+        options.addArguments("--disable-background-networking", "--disable-component-update");
+        return options;
+    }
+
+    /**
+     * Starts interception on a running Chromium session.
+     */
+    public Interception attach(WebDriver driver) {
+        DevTools devTools = ((HasDevTools) WebDriverUtil.unwrap(driver)).getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        Interception interception = new Interception(devTools, this);
+        interception.start();
+        return interception;
+    }
+
+    /**
+     * Live interception on one session: counters, plus update() for per-test overrides.
+     */
+    public static class Interception {
+        private static final Event<Map<String, Object>> REQUEST_PAUSED =
+                new Event<>("Fetch.requestPaused", input -> input.read(Json.MAP_TYPE));
+        private static final Event<Map<String, Object>> LOADING_FAILED =
+                new Event<>("Network.loadingFailed", input -> input.read(Json.MAP_TYPE));
+
+        private final DevTools devTools;
+        private final Map<String, AtomicInteger> counters = new ConcurrentHashMap<>();
+        private volatile LeanBrowsingProfile profile;
+        private volatile boolean stopped;
+
+        private Interception(DevTools devTools, LeanBrowsingProfile profile) {
+            this.devTools = devTools;
+            this.profile = profile.copy();
+        }
+
+        private void start() {
+            // DevTools can only drop all listeners at once, so ours go quiet on stop() instead
+            devTools.addListener(REQUEST_PAUSED, event -> {
+                if (!stopped) {
+                    onRequestPaused(event);
+                }
+            });
+            devTools.addListener(LOADING_FAILED, event -> {
+                if (!stopped) {
+                    onLoadingFailed(event);
+                }
+            });
+            devTools.send(new Command<Void>("Network.enable", Map.of()));
+            apply();
+        }
+
+        /**
+         * Replaces the active rules, e.g. {@code update(profile.copy().allow(ResourceType.IMAGE))}.
+         * Launch-time prefs from applyTo() are not affected.
+         */
+        public void update(LeanBrowsingProfile newProfile) {
+            profile = newProfile.copy();
+            apply();
+        }
+
+        /**
+         * Requests blocked or stubbed so far, keyed like "type:Image", "url-pattern", "stub:*.js".
+         */
+        public Map<String, Integer> counters() {
+            Map<String, Integer> snapshot = new LinkedHashMap<>();
+            counters.forEach((k, v) -> snapshot.put(k, v.get()));
+            return snapshot;
+        }
+
+        public int totalBlocked() {
+            return counters.values().stream().mapToInt(AtomicInteger::get).sum();
+        }
+
+        /**
+         * Ends interception. Listeners other code registered on the session are left alone.
+         */
+        public void stop() {
+            stopped = true;
+            devTools.send(new Command<Void>("Fetch.disable", Map.of()));
+            devTools.send(new Command<Void>("Network.setBlockedURLs", Map.of("urls", List.of())));
+        }
+
+        private void apply() {
+            LeanBrowsingProfile current = profile;
+            devTools.send(new Command<Void>("Network.setBlockedURLs",
+                    Map.of("urls", new ArrayList<>(current.blockedUrls))));
+
+            List<Map<String, Object>> patterns = new ArrayList<>();
+            for (ResourceType type : current.blockedTypes) {
+                patterns.add(Map.of("urlPattern", "*", "resourceType", type.cdpName, "requestStage", "Request"));
+            }
+            for (String url : current.stubs.keySet()) {
+                patterns.add(Map.of("urlPattern", url, "requestStage", "Request"));
+            }
+            if (patterns.isEmpty()) {
+                devTools.send(new Command<Void>("Fetch.disable", Map.of()));
+            } else {
+                devTools.send(new Command<Void>("Fetch.enable", Map.of("patterns", patterns)));
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void onRequestPaused(Map<String, Object> event) {
+            String requestId = (String) event.get("requestId");
+            String url = (String) ((Map<String, Object>) event.get("request")).get("url");
+            LeanBrowsingProfile current = profile;
+
+            for (Map.Entry<String, Stub> stub : current.stubs.entrySet()) {
+                if (matches(stub.getKey(), url)) {
+                    count("stub:" + stub.getKey());
+                    devTools.send(new Command<Void>("Fetch.fulfillRequest", Map.of(
+                            "requestId", requestId,
+                            "responseCode", 200,
+                            "responseHeaders", List.of(Map.of("name", "Content-Type", "value", stub.getValue().contentType())),
+                            "body", Base64.getEncoder().encodeToString(stub.getValue().body().getBytes(StandardCharsets.UTF_8)))));
+                    return;
+                }
+            }
+            String type = (String) event.get("resourceType");
+            for (ResourceType blocked : current.blockedTypes) {
+                if (blocked.cdpName.equals(type)) {
+                    count("type:" + type);
+                    devTools.send(new Command<Void>("Fetch.failRequest",
+                            Map.of("requestId", requestId, "errorReason", "BlockedByClient")));
+                    return;
+                }
+            }
+            devTools.send(new Command<Void>("Fetch.continueRequest", Map.of("requestId", requestId)));
+        }
+
+        private void onLoadingFailed(Map<String, Object> event) {
+            // Requests stopped by Network.setBlockedURLs never reach Fetch — count them here
+            if ("inspector".equals(event.get("blockedReason"))) {
+                count("url-pattern");
+            }
+        }
+
+        private void count(String key) {
+            counters.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    /**
+     * CDP-style wildcard match: * = any run of characters, ? = one character.
+     */
+    static boolean matches(String pattern, String url) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : pattern.toCharArray()) {
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return url.matches(regex.toString());
+    }
+}
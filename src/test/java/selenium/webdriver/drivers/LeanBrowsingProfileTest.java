@@ -0,0 +1,47 @@
+package selenium.webdriver.drivers;
+
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class LeanBrowsingProfileTest {
+
+    @Test
+    public void starMatchesAnyRun() {
+        assertTrue(LeanBrowsingProfile.matches("*doubleclick.net*", "https://ad.doubleclick.net/pixel?x=1"));
+        assertTrue(LeanBrowsingProfile.matches("*.js", "https://cdn.example.com/app.js"));
+        assertTrue(LeanBrowsingProfile.matches("*", ""));
+        assertFalse(LeanBrowsingProfile.matches("*.js", "https://cdn.example.com/app.json"));
+    }
+
+    @Test
+    public void questionMarkMatchesOneCharacter() {
+        assertTrue(LeanBrowsingProfile.matches("https://a?.example.com/*", "https://a1.example.com/x"));
+        assertFalse(LeanBrowsingProfile.matches("https://a?.example.com/*", "https://a12.example.com/x"));
+    }
+
+    @Test
+    public void regexCharactersAreLiteral() {
+        assertTrue(LeanBrowsingProfile.matches("*/api/v1/items?(id)*", "https://x.test/api/v1/items1(id)=3"));
+        assertFalse(LeanBrowsingProfile.matches("*example.com*", "https://exampleXcom.test"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void applyToKeepsExistingPrefs() {
+        ChromeOptions options = new ChromeOptions();
+        options.setExperimentalOption("prefs", Map.of("download.default_directory", "/tmp/downloads"));
+
+        LeanBrowsingProfile.defaults().applyTo(options);
+
+        Map<String, Object> chrome = (Map<String, Object>) options.asMap().get(ChromeOptions.CAPABILITY);
+        Map<String, Object> prefs = (Map<String, Object>) chrome.get("prefs");
+        assertEquals(prefs.get("download.default_directory"), "/tmp/downloads");
+        assertEquals(prefs.get("profile.managed_default_content_settings.images"), 2);
+    }
+}
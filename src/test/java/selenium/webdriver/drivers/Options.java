@@ -52,6 +52,30 @@ public class Options {
         driver.quit();
     }
 
+    /**
+     * 🪶 Lean browsing — skip downloads the test never asserts on
+     *
+     * 	•	Images, fonts and media blocked
+     * 	•	Analytics / ad hosts blocked inside the browser
+     * 	•	Per-test override: allow images back for this test only
+     */
+    @Test
+    public static void leanBrowsingProfile()
+    {
+        LeanBrowsingProfile profile = LeanBrowsingProfile.defaults()
+                .copy()
+                .allow(LeanBrowsingProfile.ResourceType.IMAGE);
+
+        ChromeOptions options = profile.applyTo(new ChromeOptions());
+        options.addArguments("--headless");
+
+        WebDriver driver = new ChromeDriver(options);
+        LeanBrowsingProfile.Interception interception = profile.attach(driver);
+        driver.get("https://demoqa.com/buttons");
 
+        System.out.println("Title: " + driver.getTitle());
+        System.out.println("Blocked requests: " + interception.counters());
+        driver.quit();
+    }
 
 }
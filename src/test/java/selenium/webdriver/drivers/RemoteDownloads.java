@@ -0,0 +1,262 @@
+package selenium.webdriver.drivers;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.openqa.selenium.HasDownloads;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.AbstractDriverOptions;
+import org.openqa.selenium.remote.ErrorCodec;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import selenium.webdriver.utils.WebDriverUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 📥 RemoteDownloads — get files a remote browser downloaded onto this machine
+ *
+ * Selenium Grid keeps a session's downloads on the node ("managed downloads"). Selenium's own
+ * {@code downloadFile} reads the whole base64 zip into memory — fine for a CSV, an OutOfMemoryError
+ * for a 200 MB export. This helper:
+ *
+ * ✅ enable(options)      — turns managed downloads on (se:downloadsEnabled)
+ * ✅ awaitDownloads(...)  — waits until the expected files are present, no partial files
+ *                           (.crdownload / .part / .tmp) remain, and the listing (names and sizes) has
+ *                           stayed unchanged for a settle period — no sleeps
+ * ✅ fetch / fetchAll     — streams each file: HTTP body → base64 decoded on the fly by Jackson →
+ *                           temp zip on disk → unzipped to the target folder; several files in parallel
+ * ✅ clear(driver)        — deletes the session's downloads on the node
+ *
+ * Streaming bypasses the command executor and goes through GridHttpClientFactory.sendRaw() with the
+ * session's own client config and credentials, so it needs a driver that factory created
+ * (GridHttpClientFactory / GridSessionBroker). Other remote drivers fall back to Selenium's
+ * in-memory download.
+ *
+ * 🔧 Configuration (system properties):
+ *  - download.parallelism — files fetched at the same time (default: 4)
+ *  - download.settle      — milliseconds the listing must stay unchanged (default: 1000)
+ */
+public final class RemoteDownloads {
+
+    private static final int PARALLELISM = Integer.getInteger("download.parallelism", 4);
+    private static final Duration SETTLE = Duration.ofMillis(Integer.getInteger("download.settle", 1000));
+    private static final Duration POLL = Duration.ofMillis(250);
+    private static final List<String> PARTIAL_SUFFIXES = List.of(".crdownload", ".part", ".tmp", ".download");
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final Json JSON = new Json();
+
+    private RemoteDownloads() {
+    }
+
+    /**
+     * Turns on managed downloads for a grid session — set it before creating the driver.
+     */
+    public static <O extends AbstractDriverOptions<?>> O enable(O options) {
+        options.setEnableDownloads(true);
+        return options;
+    }
+
+    /**
+     * Waits until {@code expected} accepts the list of completed downloads, no download is still
+     * in progress, and the listing (names and sizes) has not changed for download.settle ms.
+     *
+     * @return the completed file names
+     */
+    public static List<String> awaitDownloads(WebDriver driver, Predicate<List<String>> expected, Duration timeout) {
+        RemoteWebDriver remote = remote(driver);
+        long deadline = System.nanoTime() + timeout.toNanos();
+        List<String> last = null;
+        long stableSince = System.nanoTime();
+        while (true) {
+            List<HasDownloads.DownloadedFile> files = remote.getDownloadedFiles();
+            List<String> names = files.stream().map(HasDownloads.DownloadedFile::getName).toList();
+            // A file still being written changes size even when its name does not
+            List<String> listing = files.stream().map(file -> file.getName() + ":" + file.getSize()).toList();
+            if (!listing.equals(last)) {
+                last = listing;
+                stableSince = System.nanoTime();
+            }
+            boolean inProgress = names.stream().anyMatch(RemoteDownloads::isPartial);
+            if (!inProgress && expected.test(names) && System.nanoTime() - stableSince >= SETTLE.toNanos()) {
+                return names;
+            }
+            if (System.nanoTime() > deadline) {
+                throw new TimeoutException("Downloads did not complete within " + timeout + ", last listing: " + names);
+            }
+            sleep(POLL);
+        }
+    }
+
+    /**
+     * Waits until at least {@code count} downloads have completed.
+     */
+    public static List<String> awaitDownloads(WebDriver driver, int count, Duration timeout) {
+        return awaitDownloads(driver, names -> names.size() >= count, timeout);
+    }
+
+    /**
+     * Streams one downloaded file into {@code targetDir}.
+     */
+    public static Path fetch(WebDriver driver, String name, Path targetDir) {
+        RemoteWebDriver remote = remote(driver);
+        try {
+            Files.createDirectories(targetDir);
+            if (GridHttpClientFactory.canSendRaw(remote)) {
+                return fetchStreaming(remote, name, targetDir);
+            }
+            // No client config to stream with — Selenium's own (in-memory) download
+            remote.downloadFile(name, targetDir);
+            return targetDir.resolve(name);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not download " + name, e);
+        }
+    }
+
+    /**
+     * Streams several files into {@code targetDir}, download.parallelism at a time.
+     *
+     * @return file name → local path, in the order given
+     */
+    public static Map<String, Path> fetchAll(WebDriver driver, List<String> names, Path targetDir) {
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(PARALLELISM, names.size())));
+        try {
+            List<CompletableFuture<Path>> downloads = new ArrayList<>();
+            for (String name : names) {
+                downloads.add(CompletableFuture.supplyAsync(() -> fetch(driver, name, targetDir), pool));
+            }
+            Map<String, Path> result = new LinkedHashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                result.put(names.get(i), downloads.get(i).join());
+            }
+            return result;
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Removes the session's downloads from the node.
+     */
+    public static void clear(WebDriver driver) {
+        remote(driver).deleteDownloadableFiles();
+    }
+
+    private static Path fetchStreaming(RemoteWebDriver remote, String name, Path targetDir) throws IOException {
+        HttpResponse<InputStream> response;
+        try {
+            response = GridHttpClientFactory.sendRaw(remote, "POST", "/session/" + remote.getSessionId() + "/se/files",
+                    "application/json; charset=utf-8",
+                    HttpRequest.BodyPublishers.ofString(JSON.toJson(Map.of("name", name))),
+                    HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while downloading " + name, e);
+        }
+
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) {
+                Map<String, Object> error = JSON.toType(new String(body.readAllBytes(), StandardCharsets.UTF_8), Json.MAP_TYPE);
+                throw ErrorCodec.createDefault().decode(error);
+            }
+            Path zip = Files.createTempFile(targetDir, ".download-", ".zip");
+            try {
+                try (OutputStream out = Files.newOutputStream(zip)) {
+                    copyContents(body, out, name);
+                }
+                return unzip(zip, targetDir);
+            } finally {
+                Files.deleteIfExists(zip);
+            }
+        }
+    }
+
+    /**
+     * Finds {"value": {"contents": "..."}} in the response and decodes the base64 string straight
+     * into {@code out} — the string itself is never built.
+     */
+    private static void copyContents(InputStream body, OutputStream out, String name) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME && "contents".equals(parser.currentName())) {
+                    parser.nextToken();
+                    parser.readBinaryValue(Base64Variants.MIME_NO_LINEFEEDS, out);
+                    return;
+                }
+            }
+        }
+        throw new WebDriverException("The node sent no contents for " + name);
+    }
+
+    private static Path unzip(Path zip, Path targetDir) throws IOException {
+        Path extracted = null;
+        try (ZipInputStream in = new ZipInputStream(Files.newInputStream(zip))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                Path target = targetDir.resolve(entry.getName()).normalize();
+                if (!target.startsWith(targetDir.normalize())) {
+                    throw new IOException("Zip entry outside the target folder: " + entry.getName());
+                }
+                Files.createDirectories(target.getParent());
+                Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+                extracted = target;
+            }
+        }
+        if (extracted == null) {
+            throw new IOException("Empty download archive " + zip);
+        }
+        return extracted;
+    }
+
+    private static boolean isPartial(String name) {
+        String lower = name.toLowerCase();
+        return PARTIAL_SUFFIXES.stream().anyMatch(lower::endsWith);
+    }
+
+    private static RemoteWebDriver remote(WebDriver driver) {
+        if (WebDriverUtil.unwrap(driver) instanceof RemoteWebDriver remote) {
+            return remote;
+        }
+        throw new IllegalArgumentException("Managed downloads need a RemoteWebDriver session, got " + driver.getClass());
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting for downloads", e);
+        }
+    }
+}
@@ -4,12 +4,14 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.remote.LocalFileDetector;
-import org.openqa.selenium.remote.RemoteWebDriver;
 
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 public class RemoteWebDriverExample {
     /**
@@ -36,7 +38,9 @@ public class RemoteWebDriverExample {
         options.addArguments("--incognito");
 
         // 3. Create RemoteWebDriver
-        WebDriver driver = new RemoteWebDriver(gridUrl, options);
+        //    GridHttpClientFactory shares one pooled client (HTTP/1.1 keep-alive by default, gzip, retries on GET/DELETE)
+        //    across sessions instead of new RemoteWebDriver(gridUrl, options), which builds a fresh one each time
+        WebDriver driver = GridHttpClientFactory.remoteDriver(gridUrl, options);
 
         // 4. Use it like any normal driver
         driver.get("https://www.google.com");
@@ -46,24 +50,38 @@ public class RemoteWebDriverExample {
     }
 
     public static void uploadFile(WebDriver driver, File uploadFile) {
-        // 🔁 Cast to RemoteWebDriver to set LocalFileDetector
-        ((RemoteWebDriver) driver).setFileDetector(new LocalFileDetector());
-
         // 🔼 Upload input must accept file
         WebElement fileInput = driver.findElement(By.cssSelector("input[type='file']"));
-        fileInput.sendKeys(uploadFile.getAbsolutePath());
+
+        // 📤 A LocalFileDetector would zip + upload the file to the node on EVERY sendKeys.
+        //    UploadCache uploads each distinct file once per session and reuses the node's copy afterwards
+        UploadCache.getDefault().sendFile(driver, fileInput, uploadFile.toPath());
 
         // Click upload/submit button
         driver.findElement(By.id("file-submit")).click();
     }
 
-    public static void downloadFile()
-    {
+    public static void downloadFile() throws MalformedURLException {
         //1. Enable download support when creating the driver:
+        URL gridUrl = new URL("http://192.168.0.10:4444/wd/hub");
+        ChromeOptions options = RemoteDownloads.enable(new ChromeOptions());
+        WebDriver driver = GridHttpClientFactory.remoteDriver(gridUrl, options);
 
-        //2. Upload a file from local system to remote browser:
+        //2. Trigger the download in the remote browser:
+        driver.get("https://the-internet.herokuapp.com/download");
+        driver.findElement(By.cssSelector(".example a")).click();
 
         //3. Download or list files:
+        //   wait until the node has a complete file (no .crdownload/.part, listing stable) — no sleeps
+        List<String> files = RemoteDownloads.awaitDownloads(driver, 1, Duration.ofSeconds(60));
+        System.out.println("Downloaded on the node: " + files);
+
+        //   stream them to local disk in parallel — memory stays flat even for 200 MB exports
+        Map<String, Path> local = RemoteDownloads.fetchAll(driver, files, Path.of("target", "downloads"));
+        local.forEach((name, path) -> System.out.println(name + " -> " + path));
+
+        RemoteDownloads.clear(driver);
+        driver.quit();
     }
 
 }
@@ -4,6 +4,8 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.remote.SessionId;
+import selenium.webdriver.listeners.CommandLatencyListener;
+import selenium.webdriver.listeners.CommandMetrics;
 
 public class Sessions {
 
@@ -44,10 +46,13 @@ public class Sessions {
      * ✅ Use RemoteWebDriver or ChromeDriver when you need lower-level driver methods
      */
     public static void demonstrateSessionIdUsage() {
-        WebDriver driver = new ChromeDriver();
+        ChromeDriver chromeDriver = new ChromeDriver();
 
         // ✅ Cast to RemoteWebDriver to access getSessionId()
-        SessionId sessionId = ((RemoteWebDriver) driver).getSessionId();
+        SessionId sessionId = ((RemoteWebDriver) chromeDriver).getSessionId();
+
+        // ⏱️ Decorate to record every command's latency, tagged with this session ID
+        WebDriver driver = CommandLatencyListener.decorate(chromeDriver);
 
         System.out.println("🔐 WebDriver Session ID: " + sessionId.toString());
 
@@ -55,5 +60,8 @@ public class Sessions {
         System.out.println("Page Title: " + driver.getTitle());
 
         driver.quit();
+
+        // 📊 Where did the time go?
+        CommandMetrics.summary().forEach(System.out::println);
     }
 }
@@ -0,0 +1,281 @@
+package selenium.webdriver.drivers;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.ErrorCodec;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.remote.service.DriverCommandExecutor;
+import selenium.webdriver.utils.WebDriverUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 📤 UploadCache — upload each distinct file once per remote session
+ *
+ * With a LocalFileDetector every {@code sendKeys(path)} zips and base64-uploads the file to the node
+ * again, even when the same fixture goes up hundreds of times. UploadCache keeps, per session,
+ * content hash + file name → the path the node stored the file at, and reuses that path:
+ *
+ * ✅ Files are identified by SHA-256 of their content (hashed while streaming, never fully in memory);
+ *    the hash is remembered per (path, size, mtime) so an unchanged fixture is not re-read
+ * ✅ First upload per session goes through the node's upload endpoint; later ones cost nothing
+ * ✅ Files above upload.stream.threshold are zipped + base64'd straight into the HTTP request body,
+ *    sent with the session's credentials through GridHttpClientFactory's pooled client (for drivers
+ *    it created, e.g. via GridSessionBroker)
+ * ✅ Local drivers (ChromeDriver etc.) just get the local path — nothing to upload
+ * ✅ bytesUploaded() / bytesSaved() show what the cache is worth
+ *
+ * The cache is per session, not per node: the node deletes uploaded files when a session ends.
+ * WebDriverUtil.releaseDriver() calls forget(); call it yourself for sessions you manage.
+ *
+ * 🔧 Configuration (system properties):
+ *  - upload.stream.threshold — bytes above which uploads are streamed (default: 8 MB)
+ */
+public final class UploadCache {
+
+    private static final long STREAM_THRESHOLD = Long.getLong("upload.stream.threshold", 8L * 1024 * 1024);
+    private static final Json JSON = new Json();
+
+    private static final UploadCache DEFAULT = new UploadCache();
+
+    // Produces streamed request bodies — never the common pool, which a blocked pipe could starve
+    private static final ExecutorService BODY_WRITERS = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "upload-body-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<SessionId, Map<String, String>> remotePaths = new ConcurrentHashMap<>();
+    private final Map<FileKey, String> hashes = new ConcurrentHashMap<>();
+    private final AtomicLong bytesUploaded = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+    private final AtomicLong uploads = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+
+    public static UploadCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Puts {@code file} into a file input: uploads it to the node on first use in this session,
+     * reuses the node's copy afterwards. Works the same for local drivers.
+     */
+    public void sendFile(WebDriver driver, WebElement fileInput, Path file) {
+        fileInput.sendKeys(remotePath(driver, file));
+    }
+
+    /**
+     * The path the browser should see for {@code file}: the node-side copy for remote sessions,
+     * the local absolute path otherwise.
+     */
+    public String remotePath(WebDriver driver, Path file) {
+        Path absolute = file.toAbsolutePath().normalize();
+        if (!(WebDriverUtil.unwrap(driver) instanceof RemoteWebDriver remote)
+                || remote.getCommandExecutor() instanceof DriverCommandExecutor) {
+            // Browser runs on this machine — it can read the file directly
+            return absolute.toString();
+        }
+
+        long size = sizeOf(absolute);
+        String key = hash(absolute) + "/" + absolute.getFileName();
+        Map<String, String> session = remotePaths.computeIfAbsent(remote.getSessionId(), id -> new ConcurrentHashMap<>());
+        String cached = session.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            bytesSaved.addAndGet(size);
+            return cached;
+        }
+
+        // Streaming bypasses the command executor, so it needs the session's client config
+        // (drivers from GridHttpClientFactory / GridSessionBroker)
+        String uploaded = size > STREAM_THRESHOLD && GridHttpClientFactory.canSendRaw(remote)
+                ? uploadStreaming(remote, absolute)
+                : uploadInline(remote.getCommandExecutor(), remote.getSessionId(), absolute);
+        uploads.incrementAndGet();
+        bytesUploaded.addAndGet(size);
+        session.put(key, uploaded);
+        return uploaded;
+    }
+
+    /**
+     * Drops the entries of a session that has ended.
+     */
+    public void forget(SessionId sessionId) {
+        remotePaths.remove(sessionId);
+    }
+
+    public long bytesUploaded() {
+        return bytesUploaded.get();
+    }
+
+    public long bytesSaved() {
+        return bytesSaved.get();
+    }
+
+    public String summary() {
+        return String.format("uploads=%d, reused=%d, uploaded=%d KB, saved=%d KB",
+                uploads.get(), hits.get(), bytesUploaded.get() / 1024, bytesSaved.get() / 1024);
+    }
+
+    /**
+     * Small files: the regular upload command through the session's own executor.
+     */
+    private static String uploadInline(CommandExecutor executor, SessionId sessionId, Path file) {
+        ByteArrayOutputStream base64 = new ByteArrayOutputStream();
+        try {
+            writeZippedBase64(file, base64);
+            Response response = executor.execute(new Command(sessionId, DriverCommand.UPLOAD_FILE,
+                    Map.of("file", base64.toString(StandardCharsets.US_ASCII))));
+            if (response.getValue() instanceof String remotePath) {
+                return remotePath;
+            }
+            throw new WebDriverException("Upload of " + file + " failed: " + response.getValue());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Upload of " + file + " failed", e);
+        }
+    }
+
+    /**
+     * Large files: the JSON body {"file": "<base64 zip>"} is produced on a writer thread and piped
+     * into the request, so neither the zip nor its base64 form is ever held in memory.
+     */
+    private static String uploadStreaming(RemoteWebDriver remote, Path file) {
+        try {
+            PipedInputStream body = new PipedInputStream(256 * 1024);
+            PipedOutputStream pipe = new PipedOutputStream(body);
+            CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+                try (OutputStream out = pipe) {
+                    out.write("{\"file\":\"".getBytes(StandardCharsets.US_ASCII));
+                    writeZippedBase64(file, out);
+                    out.write("\"}".getBytes(StandardCharsets.US_ASCII));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, BODY_WRITERS);
+
+            HttpResponse<String> response;
+            try {
+                response = GridHttpClientFactory.sendRaw(remote, "POST", "/session/" + remote.getSessionId() + "/se/file",
+                        "application/json; charset=utf-8", HttpRequest.BodyPublishers.ofInputStream(() -> body),
+                        HttpResponse.BodyHandlers.ofString());
+            } catch (IOException | InterruptedException | RuntimeException e) {
+                // Nobody reads the pipe any more — closing it ends the writer instead of leaving it blocked
+                closeQuietly(body);
+                throw e;
+            }
+            try {
+                writer.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof UncheckedIOException io ? io : e;
+            }
+
+            Map<String, Object> json = JSON.toType(response.body(), Json.MAP_TYPE);
+            if (response.statusCode() == 200 && json.get("value") instanceof String remotePath) {
+                return remotePath;
+            }
+            throw ErrorCodec.createDefault().decode(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Streaming upload of " + file + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while uploading " + file, e);
+        }
+    }
+
+    private static void closeQuietly(PipedInputStream body) {
+        try {
+            body.close();
+        } catch (IOException ignored) {
+            // Closing a pipe only flags it closed
+        }
+    }
+
+    /**
+     * What the node expects: a zip holding the file at its root, base64-encoded.
+     */
+    private static void writeZippedBase64(Path file, OutputStream out) throws IOException {
+        OutputStream base64 = Base64.getEncoder().wrap(new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                // Closing the encoder writes the padding — the caller still owns the stream
+                flush();
+            }
+        });
+        try (ZipOutputStream zip = new ZipOutputStream(base64)) {
+            zip.putNextEntry(new ZipEntry(file.getFileName().toString()));
+            Files.copy(file, zip);
+            zip.closeEntry();
+        }
+    }
+
+    private String hash(Path file) {
+        FileKey fileKey = new FileKey(file, sizeOf(file), lastModified(file));
+        return hashes.computeIfAbsent(fileKey, key -> {
+            try (DigestInputStream in = new DigestInputStream(Files.newInputStream(file), MessageDigest.getInstance("SHA-256"))) {
+                in.transferTo(OutputStream.nullOutputStream());
+                return HexFormat.of().formatHex(in.getMessageDigest().digest());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read " + file, e);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        });
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + file, e);
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + file, e);
+        }
+    }
+
+    private record FileKey(Path path, long size, FileTime modified) {
+    }
+}
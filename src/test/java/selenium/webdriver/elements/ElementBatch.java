@@ -0,0 +1,164 @@
+package selenium.webdriver.elements;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import selenium.webdriver.utils.JsLocators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 📦 ElementBatch — find many elements and read their state in ONE round trip
+ *
+ * The usual pattern costs one HTTP round trip per call:
+ *     findElement → getText → getAttribute → isDisplayed → getRect   (x N elements)
+ * Against a remote grid that is dozens of round trips for a single form.
+ *
+ * ElementBatch sends every locator (and the attributes you need) to the page in one
+ * executeScript call and returns, per locator: the WebElement reference (still usable
+ * for click/sendKeys), its text, requested attributes, rect and visibility.
+ *
+ * ✅ Example:
+ *     ElementBatch.Result form = ElementBatch.on(driver)
+ *             .add("name", By.name("my-text"), "value", "placeholder")
+ *             .add("check", By.id("my-check-1"), "checked")
+ *             .fetch();
+ *     form.get("name").attribute("placeholder");
+ *     form.get("check").element().click();
+ *
+ * ⚠️ Text is innerText (what the user sees), which matches getText() for visible elements.
+ */
+public class ElementBatch {
+
+    private static final String BATCH_SCRIPT = JsLocators.FIND_ALL_FUNCTION + """
+            var requests = arguments[0];
+            return requests.map(function (req) {
+              var el = __findAll(req[0], req[1], document)[0];
+              if (!el) return null;
+              var style = window.getComputedStyle(el);
+              var box = el.getBoundingClientRect();
+              var attrs = {};
+              req[2].forEach(function (name) {
+                var prop = el[name];
+                attrs[name] = (prop !== undefined && prop !== null && typeof prop !== 'object' && typeof prop !== 'function')
+                    ? String(prop) : el.getAttribute(name);
+              });
+              return {
+                element: el,
+                tag: el.tagName.toLowerCase(),
+                text: (el.innerText || '').trim(),
+                attributes: attrs,
+                rect: [box.left + window.scrollX, box.top + window.scrollY, box.width, box.height],
+                displayed: style.display !== 'none' && style.visibility !== 'hidden' && style.opacity !== '0'
+                    && el.getClientRects().length > 0
+              };
+            });
+            """;
+
+    private final WebDriver driver;
+    private final Map<String, By> locators = new LinkedHashMap<>();
+    private final Map<String, List<String>> attributes = new LinkedHashMap<>();
+
+    private ElementBatch(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public static ElementBatch on(WebDriver driver) {
+        return new ElementBatch(driver);
+    }
+
+    /**
+     * Adds a locator under a name, with the attributes/properties to read from it.
+     */
+    public ElementBatch add(String name, By locator, String... attributeNames) {
+        locators.put(name, locator);
+        attributes.put(name, List.of(attributeNames));
+        return this;
+    }
+
+    /**
+     * Resolves every locator in a single executeScript call.
+     */
+    @SuppressWarnings("unchecked")
+    public Result fetch() {
+        List<List<Object>> requests = new ArrayList<>();
+        locators.forEach((name, by) -> {
+            List<Object> request = new ArrayList<>(JsLocators.toArgs(by));
+            request.add(attributes.get(name));
+            requests.add(request);
+        });
+
+        List<Object> raw = (List<Object>) ((JavascriptExecutor) driver).executeScript(BATCH_SCRIPT, requests);
+
+        Map<String, ElementState> states = new LinkedHashMap<>();
+        int i = 0;
+        for (Map.Entry<String, By> entry : locators.entrySet()) {
+            Map<String, Object> values = (Map<String, Object>) raw.get(i++);
+            states.put(entry.getKey(), values == null ? null : ElementState.from(entry.getValue(), values));
+        }
+        return new Result(locators, states);
+    }
+
+    /**
+     * Everything returned by one fetch(), looked up by the names given to add().
+     */
+    public static class Result {
+        private final Map<String, By> locators;
+        private final Map<String, ElementState> states;
+
+        private Result(Map<String, By> locators, Map<String, ElementState> states) {
+            this.locators = locators;
+            this.states = states;
+        }
+
+        /**
+         * @throws NoSuchElementException if the locator matched nothing (same as findElement)
+         */
+        public ElementState get(String name) {
+            ElementState state = states.get(name);
+            if (state == null) {
+                throw new NoSuchElementException("Unable to locate element: " + locators.get(name));
+            }
+            return state;
+        }
+
+        public boolean isFound(String name) {
+            return states.get(name) != null;
+        }
+
+        public Map<String, ElementState> all() {
+            return Collections.unmodifiableMap(states);
+        }
+    }
+
+    /**
+     * Snapshot of one element at the moment of the fetch.
+     */
+    public record ElementState(By locator, WebElement element, String tagName, String text,
+                               Map<String, String> attributes, Rectangle rect, boolean displayed) {
+
+        public String attribute(String name) {
+            return attributes.get(name);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static ElementState from(By locator, Map<String, Object> values) {
+            Map<String, String> attrs = new LinkedHashMap<>();
+            ((Map<String, Object>) values.get("attributes"))
+                    .forEach((k, v) -> attrs.put(k, v == null ? null : String.valueOf(v)));
+            List<Number> r = (List<Number>) values.get("rect");
+            Rectangle rect = new Rectangle(r.get(0).intValue(), r.get(1).intValue(),
+                    r.get(3).intValue(), r.get(2).intValue());
+            return new ElementState(locator, (WebElement) values.get("element"), (String) values.get("tag"),
+                    (String) values.get("text"), Collections.unmodifiableMap(attrs), rect,
+                    Boolean.TRUE.equals(values.get("displayed")));
+        }
+    }
+}
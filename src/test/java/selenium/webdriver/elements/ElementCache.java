@@ -0,0 +1,321 @@
+package selenium.webdriver.elements;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ♻️ ElementCache — cached, self-healing element references
+ *
+ * A WebElement is only a handle to one node of one document. After a re-render or a
+ * reload the handle goes stale and every test has to "re-fetch the element" by hand —
+ * usually by re-running the whole lookup chain.
+ *
+ * Elements returned by the cache are proxies that remember HOW they were found
+ * (frame path → parent chain → locator):
+ *  - repeated find() calls for the same chain are served from the cache (no findElement traffic);
+ *    findAll() caches every element of its one findElements call
+ *  - before each command the driver is switched into the element's frame path, if the cache
+ *    last left it somewhere else
+ *  - the cache is cleared on navigation (get, to, back, forward, refresh, window switch)
+ *  - if a command hits StaleElementReferenceException or NoSuchElementException (the driver no
+ *    longer knows the reference), the element is re-resolved from its locator chain from the top
+ *    document and the command is retried once
+ *
+ * ✅ Example:
+ *     WebDriver driver = ElementCache.trackNavigation(new ChromeDriver());
+ *     ElementCache elements = ElementCache.of(driver);
+ *     WebElement input = elements.find(By.id("tags"));             // cached + self-healing
+ *     WebElement body  = elements.inFrame(By.id("mce_0_ifr")).find(By.id("tinymce"));
+ *
+ * ⚠️ Only a stale or unknown reference is retried — the command never reached the element, so
+ * repeating it is safe. Other exceptions are thrown unchanged. If the test switches frames itself,
+ * the first command on a cached element may take that retry to find its frame again.
+ */
+public class ElementCache {
+
+    // Identity, not weak keys: every cached element references its driver, so a weak entry would never be collected
+    private static final Map<WebDriver, ElementCache> CACHES = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private final WebDriver driver;
+    private final Map<ElementLocator, WebElement> resolved = new ConcurrentHashMap<>();
+    // Frame path this cache last switched the driver into; null when unknown
+    private volatile List<By> currentFrames;
+
+    private ElementCache(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * The cache for this driver (one per driver instance).
+     */
+    public static ElementCache of(WebDriver driver) {
+        return CACHES.computeIfAbsent(driver, ElementCache::new);
+    }
+
+    /**
+     * Forgets the driver's cache. Call it when the session ends or goes back to a pool; a driver
+     * from {@link #trackNavigation} releases itself on quit().
+     */
+    public static void release(WebDriver driver) {
+        CACHES.remove(driver);
+    }
+
+    /**
+     * Decorates the driver so every navigation clears its element cache and quit() releases it.
+     * Use the returned driver for the rest of the test.
+     */
+    public static WebDriver trackNavigation(WebDriver driver) {
+        NavigationListener listener = new NavigationListener();
+        WebDriver decorated = new EventFiringDecorator<>(listener).decorate(driver);
+        listener.cache = of(decorated);
+        return decorated;
+    }
+
+    /**
+     * Self-healing element in the top-level document.
+     */
+    public WebElement find(By locator) {
+        return proxyFor(new ElementLocator(List.of(), null, locator, -1), true);
+    }
+
+    /**
+     * Self-healing elements in the top-level document (each remembers its index).
+     */
+    public List<WebElement> findAll(By locator) {
+        return proxiesFor(List.of(), null, locator);
+    }
+
+    /**
+     * Scope for elements inside a (possibly nested) frame. The driver is switched into the frame
+     * path whenever an element has to be (re-)resolved.
+     */
+    public FrameScope inFrame(By... framePath) {
+        return new FrameScope(List.of(framePath));
+    }
+
+    /**
+     * Drops every cached reference (e.g. after an action that replaced the page content).
+     */
+    public void invalidate() {
+        resolved.clear();
+        currentFrames = null;
+    }
+
+    public class FrameScope {
+        private final List<By> frames;
+
+        private FrameScope(List<By> frames) {
+            this.frames = frames;
+        }
+
+        public WebElement find(By locator) {
+            return proxyFor(new ElementLocator(frames, null, locator, -1), true);
+        }
+
+        public List<WebElement> findAll(By locator) {
+            return proxiesFor(frames, null, locator);
+        }
+    }
+
+    /**
+     * How an element was found. Also the cache key, so two identical chains share one reference.
+     */
+    private record ElementLocator(List<By> frames, ElementLocator parent, By by, int index) {
+        @Override
+        public String toString() {
+            String self = index < 0 ? by.toString() : by + "[" + index + "]";
+            return parent == null ? frames + " -> " + self : parent + " -> " + self;
+        }
+    }
+
+    private List<WebElement> proxiesFor(List<By> frames, ElementLocator parent, By locator) {
+        List<WebElement> found = parent == null
+                ? enterFrames(frames).findElements(locator)
+                : resolve(parent).findElements(locator);
+        List<WebElement> proxies = new ArrayList<>(found.size());
+        for (int i = 0; i < found.size(); i++) {
+            // One round trip for the whole list — the proxies start out resolved
+            ElementLocator indexed = new ElementLocator(frames, parent, locator, i);
+            resolved.put(indexed, found.get(i));
+            proxies.add(proxyFor(indexed, false));
+        }
+        return proxies;
+    }
+
+    private WebElement proxyFor(ElementLocator locator, boolean resolveNow) {
+        if (resolveNow) {
+            // Fail fast with NoSuchElementException, just like findElement
+            resolve(locator);
+        }
+        return (WebElement) Proxy.newProxyInstance(
+                ElementCache.class.getClassLoader(),
+                new Class<?>[]{WebElement.class, WrapsElement.class},
+                new SelfHealingHandler(locator));
+    }
+
+    private WebElement resolve(ElementLocator locator) {
+        WebElement cached = resolved.get(locator);
+        if (cached != null) {
+            // A reference only means something in its own browsing context
+            if (!locator.frames().equals(currentFrames)) {
+                enterFrames(locator.frames());
+            }
+            return cached;
+        }
+        WebElement element;
+        if (locator.parent() != null) {
+            element = pick(resolve(locator.parent()).findElements(locator.by()), locator);
+        } else {
+            element = pick(enterFrames(locator.frames()).findElements(locator.by()), locator);
+        }
+        resolved.put(locator, element);
+        return element;
+    }
+
+    private WebDriver enterFrames(List<By> frames) {
+        // Always from the top: the driver may still be inside a frame from an earlier lookup
+        currentFrames = null;
+        driver.switchTo().defaultContent();
+        for (By frame : frames) {
+            driver.switchTo().frame(driver.findElement(frame));
+        }
+        currentFrames = frames;
+        return driver;
+    }
+
+    private static WebElement pick(List<WebElement> found, ElementLocator locator) {
+        int index = Math.max(locator.index(), 0);
+        if (found.size() <= index) {
+            throw new NoSuchElementException("Unable to locate element: " + locator);
+        }
+        return found.get(index);
+    }
+
+    private void evict(ElementLocator locator) {
+        // Children were found through this element, so they are stale too
+        resolved.keySet().removeIf(key -> {
+            for (ElementLocator l = key; l != null; l = l.parent()) {
+                if (l.equals(locator)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    private final class SelfHealingHandler implements InvocationHandler {
+        private final ElementLocator locator;
+
+        private SelfHealingHandler(ElementLocator locator) {
+            this.locator = locator;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return args[0] instanceof WrapsElement other
+                            ? resolve(locator).equals(other.getWrappedElement())
+                            : resolve(locator).equals(args[0]);
+                case "hashCode":
+                    return locator.hashCode();
+                case "toString":
+                    return "SelfHealing[" + locator + "]";
+                case "getWrappedElement":
+                    return resolve(locator);
+                case "findElement":
+                    return proxyFor(new ElementLocator(locator.frames(), locator, (By) args[0], -1), true);
+                case "findElements":
+                    return proxiesFor(locator.frames(), locator, (By) args[0]);
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(resolve(locator), args);
+            } catch (InvocationTargetException e) {
+                if (!(e.getCause() instanceof StaleElementReferenceException
+                        || e.getCause() instanceof NoSuchElementException)) {
+                    throw e.getCause();
+                }
+            }
+            // 🔁 Stale or unknown here: re-resolve from the top document and retry once
+            evict(locator);
+            currentFrames = null;
+            try {
+                return method.invoke(resolve(locator), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static final class NavigationListener implements WebDriverListener {
+        private volatile ElementCache cache;
+
+        private void clear() {
+            if (cache != null) {
+                cache.invalidate();
+            }
+        }
+
+        @Override
+        public void afterGet(WebDriver driver, String url) {
+            clear();
+        }
+
+        @Override
+        public void afterTo(WebDriver.Navigation navigation, String url) {
+            clear();
+        }
+
+        @Override
+        public void afterTo(WebDriver.Navigation navigation, URL url) {
+            clear();
+        }
+
+        @Override
+        public void afterBack(WebDriver.Navigation navigation) {
+            clear();
+        }
+
+        @Override
+        public void afterForward(WebDriver.Navigation navigation) {
+            clear();
+        }
+
+        @Override
+        public void afterRefresh(WebDriver.Navigation navigation) {
+            clear();
+        }
+
+        @Override
+        public void afterQuit(WebDriver driver) {
+            if (cache != null) {
+                release(cache.driver);
+            }
+        }
+
+        @Override
+        public void afterWindow(WebDriver.TargetLocator targetLocator, String nameOrHandle, WebDriver driver) {
+            clear();
+        }
+    }
+}
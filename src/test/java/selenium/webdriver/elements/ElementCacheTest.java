@@ -0,0 +1,130 @@
+package selenium.webdriver.elements;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+
+public class ElementCacheTest {
+
+    private FakeBrowser browser;
+    private ElementCache cache;
+
+    @BeforeMethod
+    public void open() {
+        browser = new FakeBrowser(Map.of(
+                "top", Map.of(By.id("frame").toString(), 1, By.id("title").toString(), 1, By.tagName("li").toString(), 3),
+                "frame", Map.of(By.id("inner").toString(), 1)));
+        cache = ElementCache.of(browser.driver);
+    }
+
+    @Test
+    public void cachedElementIsUsedInsideItsFrame() {
+        WebElement inner = cache.inFrame(By.id("frame")).find(By.id("inner"));
+        WebElement title = cache.find(By.id("title"));
+
+        assertEquals(title.getText(), "top:By.id: title[0]");
+        // The top-level lookup left the driver in the top document
+        assertEquals(inner.getText(), "frame:By.id: inner[0]");
+        assertEquals(title.getText(), "top:By.id: title[0]");
+        assertEquals(browser.findElementsCalls, 2);
+    }
+
+    @Test
+    public void elementIsFoundAgainWhenTheTestSwitchedFramesItself() {
+        WebElement inner = cache.inFrame(By.id("frame")).find(By.id("inner"));
+        browser.driver.switchTo().defaultContent();
+
+        // The driver answers "no such element" for a reference from another context — re-resolved once
+        assertEquals(inner.getText(), "frame:By.id: inner[0]");
+    }
+
+    @Test
+    public void findAllResolvesEveryElementWithOneLookup() {
+        List<WebElement> items = cache.findAll(By.tagName("li"));
+
+        assertEquals(items.size(), 3);
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(items.get(i).getText(), "top:By.tagName: li[" + i + "]");
+        }
+        assertEquals(browser.findElementsCalls, 1);
+    }
+
+    /**
+     * A driver over a fixed page: each context (the top document or a frame) maps a locator to how
+     * many elements it matches. Like a W3C driver, an element only answers in its own context.
+     */
+    private static final class FakeBrowser {
+        private final Map<String, Map<String, Integer>> page;
+        private final WebDriver driver;
+        private String context = "top";
+        private int findElementsCalls;
+
+        private FakeBrowser(Map<String, Map<String, Integer>> page) {
+            this.page = page;
+            WebDriver.TargetLocator target = proxy(WebDriver.TargetLocator.class, (method, args) -> {
+                switch (method) {
+                    case "defaultContent" -> context = "top";
+                    case "frame" -> context = ((WebElement) args[0]).getAttribute("name");
+                    default -> throw new UnsupportedOperationException(method);
+                }
+                return null;
+            });
+            this.driver = proxy(WebDriver.class, (method, args) -> switch (method) {
+                case "switchTo" -> target;
+                case "findElements" -> {
+                    findElementsCalls++;
+                    yield find((By) args[0]);
+                }
+                case "findElement" -> find((By) args[0]).get(0);
+                default -> throw new UnsupportedOperationException(method);
+            });
+        }
+
+        private List<WebElement> find(By by) {
+            int count = page.get(context).getOrDefault(by.toString(), 0);
+            List<WebElement> found = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                found.add(element(context, by, i));
+            }
+            return found;
+        }
+
+        private WebElement element(String owner, By by, int index) {
+            return proxy(WebElement.class, (method, args) -> {
+                if (!owner.equals(context)) {
+                    throw new NoSuchElementException("no such element: unknown element id");
+                }
+                return switch (method) {
+                    case "getText" -> owner + ":" + by + "[" + index + "]";
+                    // The frame element's name is the context it leads into
+                    case "getAttribute" -> by.toString().replace("By.id: ", "");
+                    default -> throw new UnsupportedOperationException(method);
+                };
+            });
+        }
+
+        private interface Handler {
+            Object handle(String method, Object[] args);
+        }
+
+        private static <T> T proxy(Class<T> type, Handler handler) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                    switch (method.getName()) {
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        case "toString" -> type.getSimpleName();
+                        default -> handler.handle(method.getName(), args);
+                    }));
+        }
+    }
+}
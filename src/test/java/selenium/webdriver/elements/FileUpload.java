@@ -23,7 +23,8 @@ public class FileUpload {
      * ⚠️ Notes:
      * - Only works on elements of type="file"
      * - The file must exist on the local machine running the test
-     * - For remote WebDriver sessions, use a LocalFileDetector
+     * - For remote WebDriver sessions, use a LocalFileDetector — or UploadCache, which uploads
+     *   each distinct file only once per session (see RemoteWebDriverExample.uploadFile)
      */
     public static void demonstrateFileUpload() {
         WebDriver driver = new ChromeDriver();
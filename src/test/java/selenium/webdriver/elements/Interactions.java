@@ -48,4 +48,32 @@ public class Interactions {
 
         driver.quit();
     }
+
+    /**
+     * 📦 Reading many elements in one round trip
+     *
+     * Each findElement / getText / getAttribute / isDisplayed is a separate WebDriver command.
+     * ElementBatch resolves every locator and reads its state in a single executeScript call —
+     * the returned WebElements can still be clicked or typed into as usual.
+     */
+    public static void readFormStateInOneCall() {
+        WebDriver driver = new ChromeDriver();
+        driver.get("https://www.selenium.dev/selenium/web/web-form.html");
+
+        ElementBatch.Result form = ElementBatch.on(driver)
+                .add("text", By.name("my-text"), "value", "type")
+                .add("checkbox", By.id("my-check-1"), "checked")
+                .add("dropdown", By.name("my-select"), "value")
+                .add("submit", By.cssSelector("button"))
+                .fetch();
+
+        System.out.println("Checkbox checked: " + form.get("checkbox").attribute("checked"));
+        System.out.println("Dropdown value: " + form.get("dropdown").attribute("value"));
+        System.out.println("Submit button: '" + form.get("submit").text() + "' at " + form.get("submit").rect().getPoint());
+
+        // ✅ Element references from the batch are regular WebElements
+        form.get("text").element().sendKeys("Batched lookup");
+
+        driver.quit();
+    }
 }
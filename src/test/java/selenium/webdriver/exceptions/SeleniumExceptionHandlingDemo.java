@@ -2,6 +2,8 @@ package selenium.webdriver.exceptions;
 import com.mongodb.connection.SslSettings;
 import org.openqa.selenium.*;
 import org.openqa.selenium.chrome.ChromeDriver;
+import selenium.webdriver.elements.ElementCache;
+import selenium.webdriver.listeners.EventLog;
 
 /**
  * SeleniumExceptionHandling.java
@@ -30,24 +32,27 @@ public class SeleniumExceptionHandlingDemo {
 
         } catch (NoSuchElementException e) {
             // Happens when driver can't find an element in the DOM (wrong locator, element not yet rendered)
-            System.out.println("❌ Element not found. Possibly wrong locator or page not loaded.");
-            e.printStackTrace();
+            EventLog.event("error", "type", "NoSuchElementException",
+                    "hint", "❌ Element not found. Possibly wrong locator or page not loaded.", "message", e.getMessage());
 
         } catch (ElementNotInteractableException e) {
             // Happens when element exists in DOM but can't be interacted with (e.g., hidden, disabled)
-            System.out.println("❌ Element found but not interactable. It might be hidden or disabled.");
+            EventLog.event("error", "type", "ElementNotInteractableException",
+                    "hint", "❌ Element found but not interactable. It might be hidden or disabled.");
 
         } catch (TimeoutException e) {
             // Happens when expected condition (like presence of element) isn’t met in given wait time
-            System.out.println("❌ Timeout: Element didn’t appear in time. Consider using WebDriverWait.");
+            EventLog.event("error", "type", "TimeoutException",
+                    "hint", "❌ Timeout: Element didn’t appear in time. Consider using WebDriverWait.");
 
         } catch (StaleElementReferenceException e) {
             // Happens when the DOM has changed after finding an element (e.g., after page reload or AJAX update)
-            System.out.println("❌ Element reference lost due to DOM update. Refetch the element before using it.");
+            EventLog.event("error", "type", "StaleElementReferenceException",
+                    "hint", "❌ Element reference lost due to DOM update. Refetch the element before using it.");
 
         } finally {
             // This block always runs — good for clean-up (closing browser)
-            System.out.println("✅ Test finished. Closing browser.");
+            EventLog.event("test.finished", "hint", "✅ Closing browser.");
             driver.quit();
         }
     }
@@ -133,15 +138,58 @@ public class SeleniumExceptionHandlingDemo {
     }
 
     /**
-     * A generic exception handler for reusability in frameworks
+     * 🔁 StaleElementReferenceException without the manual re-fetch
+     *
+     * Elements from ElementCache remember the locator that found them. After the page is
+     * refreshed the old reference is stale, but the next command re-resolves it and retries
+     * once — no try/catch, no repeated lookup code.
+     */
+    public static void staleElementSelfHealing() {
+        WebDriver driver = ElementCache.trackNavigation(new ChromeDriver());
+        try {
+            driver.get("https://www.tutorialspoint.com/selenium/practice/auto-complete.php");
+            WebElement input = ElementCache.of(driver).find(By.id("tags"));
+            input.sendKeys("Sel");
+
+            driver.navigate().refresh(); // ❌ a plain WebElement would now be stale
+
+            input.clear();               // ✅ re-resolved from By.id("tags") transparently
+            input.sendKeys("Selenium");
+        } finally {
+            driver.quit();
+        }
+    }
+
+    /**
+     * 🔁 Retry the step, not the test
+     *
+     * A click that lands on a closing cookie banner or a re-rendered list item fails with an
+     * exception that would be gone 200 ms later. StepRetry retries just that step, after the
+     * matching remedy (wait for the overlay, re-find the element, scroll it into view).
+     */
+    public static void retryingSteps() {
+        WebDriver driver = new ChromeDriver();
+        StepRetry steps = StepRetry.getDefault();
+        try {
+            driver.get("https://www.tutorialspoint.com/selenium/practice/auto-complete.php");
+            steps.withElement("type tag", driver, By.id("tags"), input -> input.sendKeys("Selenium"));
+            String value = steps.get("read tag", () -> driver.findElement(By.id("tags")).getAttribute("value"));
+            EventLog.event("step.value", "step", "read tag", "value", value);
+        } finally {
+            EventLog.event("step.retries", "summary", steps.summary());
+            driver.quit();
+        }
+    }
+
+    /**
+     * A generic exception handler for reusability in frameworks.
+     * Transient failures are retried by {@link StepRetry}; only what is left is reported.
      */
     public static void handleWithMessage(Runnable step, String stepName) {
         try {
-            step.run();
+            StepRetry.getDefault().run(stepName, step);
         } catch (Exception e) {
-            System.out.println("⚠️ Exception at step: " + stepName);
-            System.out.println("Type: " + e.getClass().getSimpleName());
-            System.out.println("Message: " + e.getMessage());
+            EventLog.event("step.failed", "step", stepName, "type", e.getClass().getSimpleName(), "message", e.getMessage());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,261 @@
+package selenium.webdriver.exceptions;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.MoveTargetOutOfBoundsException;
+import selenium.webdriver.actionsapi.Settle;
+import selenium.webdriver.waits.BrowserCondition;
+import selenium.webdriver.waits.BrowserWait;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 🔁 StepRetry — retry the failing STEP, not the whole test
+ *
+ * A stale element or a click that lands on a fading-out overlay usually fails the test, and the
+ * whole test is rerun in a fresh browser. StepRetry looks at the exception instead:
+ *
+ * ✅ Fatal (wrong selector, session gone, alert open, failed wait, any non-Selenium exception or
+ *    assertion) → rethrown at once
+ * ✅ Transient → the step alone is retried with jittered exponential backoff, after a remedy:
+ *     - StaleElementReferenceException       → find the element again
+ *     - ElementClickInterceptedException     → wait in the page until nothing covers the element
+ *     - ElementNotInteractable / MoveTarget… → scroll it to the centre of the viewport
+ *     - NoSuchElementException               → give the page a moment to render it
+ * ✅ Retries stop at step.retry.attempts or when the step's time budget is spent; the last error
+ *    is thrown with the earlier ones attached as suppressed exceptions
+ * ✅ Attempts, retries and recoveries are counted per step name — see summary()
+ *
+ * ✅ Example:
+ *     StepRetry steps = StepRetry.getDefault();
+ *     steps.withElement("submit order", driver, By.id("submit"), WebElement::click);
+ *     String total = steps.get("read total", () -> driver.findElement(By.id("total")).getText());
+ *
+ * 🔧 Configuration (system properties):
+ *  - step.retry.attempts — attempts per step, the first one included (default: 4)
+ *  - step.retry.budget   — milliseconds a step may spend retrying (default: 10000)
+ *  - step.retry.backoff  — base backoff in milliseconds, doubled per retry (default: 100)
+ */
+public final class StepRetry {
+
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(2);
+
+    private static final StepRetry DEFAULT = new StepRetry(
+            Integer.getInteger("step.retry.attempts", 4),
+            Duration.ofMillis(Integer.getInteger("step.retry.budget", 10_000)),
+            Duration.ofMillis(Integer.getInteger("step.retry.backoff", 100)));
+
+    private final int maxAttempts;
+    private final Duration budget;
+    private final Duration backoff;
+    private final Map<String, StepCounters> counters = new ConcurrentHashMap<>();
+
+    public StepRetry(int maxAttempts, Duration budget, Duration backoff) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1, got " + maxAttempts);
+        }
+        this.maxAttempts = maxAttempts;
+        this.budget = budget;
+        this.backoff = backoff;
+    }
+
+    public static StepRetry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * What to do about an exception thrown by a step.
+     */
+    public enum Remedy {
+        FAIL, RETRY, RE_RESOLVE, SCROLL_INTO_VIEW, WAIT_FOR_OVERLAY;
+
+        public boolean retryable() {
+            return this != FAIL;
+        }
+    }
+
+    /**
+     * Sorts an exception into fatal or transient (and which remedy applies). Order matters:
+     * InvalidSelectorException is a NoSuchElementException, ElementClickIntercepted is an
+     * ElementNotInteractable.
+     */
+    public static Remedy classify(Throwable error) {
+        if (error instanceof InvalidSelectorException) {
+            return Remedy.FAIL;
+        }
+        if (error instanceof StaleElementReferenceException) {
+            return Remedy.RE_RESOLVE;
+        }
+        if (error instanceof ElementClickInterceptedException) {
+            return Remedy.WAIT_FOR_OVERLAY;
+        }
+        if (error instanceof ElementNotInteractableException || error instanceof MoveTargetOutOfBoundsException) {
+            return Remedy.SCROLL_INTO_VIEW;
+        }
+        if (error instanceof NoSuchElementException) {
+            return Remedy.RETRY;
+        }
+        // TimeoutException (a wait already gave up), NoSuchSession, UnhandledAlert, JavascriptException, ...
+        return Remedy.FAIL;
+    }
+
+    /**
+     * Runs a step, retrying it when it fails with a transient Selenium exception.
+     * The step should look its elements up itself, so a retry sees the current DOM.
+     */
+    public void run(String step, Runnable action) {
+        get(step, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Like {@link #run}, for steps that produce a value.
+     */
+    public <T> T get(String step, Supplier<T> action) {
+        StepCounters stats = counters.computeIfAbsent(step, name -> new StepCounters());
+        long deadline = System.nanoTime() + budget.toNanos();
+        RuntimeException failure = null;
+        for (int attempt = 1; ; attempt++) {
+            stats.attempts.increment();
+            try {
+                T result = action.get();
+                if (attempt > 1) {
+                    stats.recovered.increment();
+                }
+                return result;
+            } catch (RuntimeException e) {
+                failure = chain(failure, e);
+                if (!classify(e).retryable() || !backOff(attempt, deadline)) {
+                    stats.failed.increment();
+                    throw failure;
+                }
+                stats.retries.increment();
+            }
+        }
+    }
+
+    /**
+     * Runs an action against the element {@code locator} finds, applying the remedy the failure calls for
+     * (re-find, scroll into view, wait for an overlay to go away) before each retry.
+     */
+    public void withElement(String step, WebDriver driver, By locator, Consumer<WebElement> action) {
+        WebElement[] element = {null};
+        Remedy[] pending = {Remedy.RE_RESOLVE};
+        long deadline = System.nanoTime() + budget.toNanos();
+        get(step, () -> {
+            try {
+                element[0] = prepare(driver, locator, element[0], pending[0], deadline);
+                action.accept(element[0]);
+                return null;
+            } catch (RuntimeException e) {
+                pending[0] = classify(e);
+                throw e;
+            }
+        });
+    }
+
+    private static WebElement prepare(WebDriver driver, By locator, WebElement element, Remedy remedy, long deadline) {
+        if (element == null || remedy == Remedy.RE_RESOLVE || remedy == Remedy.RETRY) {
+            element = driver.findElement(locator);
+        }
+        switch (remedy) {
+            case SCROLL_INTO_VIEW -> {
+                ((JavascriptExecutor) driver).executeScript(
+                        "arguments[0].scrollIntoView({block: 'center', inline: 'center'});", element);
+                Settle.after(driver, element);
+            }
+            case WAIT_FOR_OVERLAY -> {
+                Duration remaining = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+                element = BrowserWait.on(driver, remaining)
+                        .withMessage("Element " + locator + " stayed covered by another element")
+                        .until(BrowserCondition.located(locator).visible().notObscured());
+            }
+            default -> {
+            }
+        }
+        return element;
+    }
+
+    /**
+     * Sleeps before the next attempt.
+     *
+     * @return false if the attempts or the time budget are used up
+     */
+    private boolean backOff(int attempt, long deadline) {
+        if (attempt >= maxAttempts) {
+            return false;
+        }
+        // Half fixed, half random: steps failing together (same overlay) do not retry in lockstep
+        long ceiling = Math.min(MAX_BACKOFF.toMillis(), backoff.toMillis() << Math.min(attempt - 1, 20));
+        long delay = ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+        if (System.nanoTime() + delay * 1_000_000 > deadline) {
+            return false;
+        }
+        try {
+            Thread.sleep(delay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while retrying a step", e);
+        }
+    }
+
+    private static RuntimeException chain(RuntimeException earlier, RuntimeException latest) {
+        if (earlier != null && earlier != latest) {
+            latest.addSuppressed(earlier);
+        }
+        return latest;
+    }
+
+    /**
+     * Per-step counters, sorted by step name.
+     */
+    public Map<String, StepStats> stats() {
+        Map<String, StepStats> snapshot = new TreeMap<>();
+        counters.forEach((step, c) -> snapshot.put(step, new StepStats(
+                c.attempts.sum(), c.retries.sum(), c.recovered.sum(), c.failed.sum())));
+        return snapshot;
+    }
+
+    public String summary() {
+        StringBuilder out = new StringBuilder("🔁 Step retries\n");
+        stats().forEach((step, s) -> {
+            if (s.retries() > 0 || s.failed() > 0) {
+                out.append(String.format("  %-40s attempts=%d, retries=%d, recovered=%d, failed=%d%n",
+                        step, s.attempts(), s.retries(), s.recovered(), s.failed()));
+            }
+        });
+        return out.toString();
+    }
+
+    /**
+     * @param recovered runs that passed after at least one retry
+     * @param failed    runs that still failed after their retries (or failed fatally)
+     */
+    public record StepStats(long attempts, long retries, long recovered, long failed) {
+    }
+
+    private static final class StepCounters {
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder recovered = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+    }
+}
@@ -0,0 +1,100 @@
+package selenium.webdriver.exceptions;
+
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnhandledAlertException;
+import org.openqa.selenium.interactions.MoveTargetOutOfBoundsException;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.fail;
+
+public class StepRetryTest {
+
+    @Test
+    public void transientErrorsGetTheirRemedy() {
+        assertEquals(StepRetry.classify(new StaleElementReferenceException("stale")), StepRetry.Remedy.RE_RESOLVE);
+        assertEquals(StepRetry.classify(new ElementClickInterceptedException("covered")), StepRetry.Remedy.WAIT_FOR_OVERLAY);
+        assertEquals(StepRetry.classify(new ElementNotInteractableException("hidden")), StepRetry.Remedy.SCROLL_INTO_VIEW);
+        assertEquals(StepRetry.classify(new MoveTargetOutOfBoundsException("outside")), StepRetry.Remedy.SCROLL_INTO_VIEW);
+        assertEquals(StepRetry.classify(new NoSuchElementException("missing")), StepRetry.Remedy.RETRY);
+    }
+
+    @Test
+    public void subclassesAreCheckedBeforeTheirParents() {
+        // InvalidSelectorException is a NoSuchElementException, but retrying a bad selector never helps
+        assertEquals(StepRetry.classify(new InvalidSelectorException("bad")), StepRetry.Remedy.FAIL);
+        // ElementClickInterceptedException is an ElementNotInteractableException
+        assertEquals(StepRetry.classify(new ElementClickInterceptedException("covered")), StepRetry.Remedy.WAIT_FOR_OVERLAY);
+    }
+
+    @Test
+    public void fatalErrorsAreNotRetried() {
+        assertEquals(StepRetry.classify(new TimeoutException("wait gave up")), StepRetry.Remedy.FAIL);
+        assertEquals(StepRetry.classify(new NoSuchSessionException("gone")), StepRetry.Remedy.FAIL);
+        assertEquals(StepRetry.classify(new UnhandledAlertException("alert")), StepRetry.Remedy.FAIL);
+        assertEquals(StepRetry.classify(new JavascriptException("boom")), StepRetry.Remedy.FAIL);
+        assertEquals(StepRetry.classify(new IllegalStateException("not selenium")), StepRetry.Remedy.FAIL);
+        assertEquals(StepRetry.classify(new AssertionError("expected")), StepRetry.Remedy.FAIL);
+    }
+
+    @Test
+    public void transientFailureIsRetriedUntilItPasses() {
+        StepRetry steps = new StepRetry(4, Duration.ofSeconds(5), Duration.ofMillis(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        String value = steps.get("read", () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new StaleElementReferenceException("stale");
+            }
+            return "ok";
+        });
+
+        assertEquals(value, "ok");
+        assertEquals(calls.get(), 3);
+        assertEquals(steps.stats().get("read"), new StepRetry.StepStats(3, 2, 1, 0));
+    }
+
+    @Test
+    public void fatalFailureIsThrownAtOnce() {
+        StepRetry steps = new StepRetry(4, Duration.ofSeconds(5), Duration.ofMillis(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(NoSuchSessionException.class, () -> steps.run("click", () -> {
+            calls.incrementAndGet();
+            throw new NoSuchSessionException("gone");
+        }));
+        assertEquals(calls.get(), 1);
+        assertEquals(steps.stats().get("click"), new StepRetry.StepStats(1, 0, 0, 1));
+    }
+
+    @Test
+    public void lastErrorCarriesTheEarlierOnesWhenAttemptsRunOut() {
+        StepRetry steps = new StepRetry(3, Duration.ofSeconds(5), Duration.ofMillis(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        try {
+            steps.run("find", () -> {
+                throw new NoSuchElementException("attempt " + calls.incrementAndGet());
+            });
+            fail("expected the step to fail");
+        } catch (NoSuchElementException e) {
+            assertEquals(calls.get(), 3);
+            assertEquals(e.getRawMessage(), "attempt 3");
+            Throwable previous = e.getSuppressed()[0];
+            assertSame(previous.getClass(), NoSuchElementException.class);
+            assertEquals(((NoSuchElementException) previous).getRawMessage(), "attempt 2");
+        }
+    }
+}
@@ -2,6 +2,9 @@ package selenium.webdriver.interactions;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.time.Duration;
 
 public class BrowserNavigationDemo {
 
@@ -17,7 +20,7 @@ public class BrowserNavigationDemo {
      *  3. Go forward in browser history
      *  4. Refresh the current page
      */
-    public static void demonstrateNavigation() throws InterruptedException {
+    public static void demonstrateNavigation() {
         WebDriver driver = new ChromeDriver();
 
         // 1️⃣ Navigate to a page using driver.get() — the most common method
@@ -26,20 +29,37 @@ public class BrowserNavigationDemo {
         // 2️⃣ Alternative: driver.navigate().to() — achieves the same as get()
         driver.navigate().to("https://www.selenium.dev/documentation");
 
-        // Pause briefly for visibility (not required in real tests)
-        Thread.sleep(1000);
-
         // 3️⃣ Go back in browser history
         driver.navigate().back();
-        Thread.sleep(1000);
 
         // 4️⃣ Go forward in browser history
         driver.navigate().forward();
-        Thread.sleep(1000);
 
         // 5️⃣ Refresh the current page
         driver.navigate().refresh();
 
         driver.quit();
     }
+
+    /**
+     * 🚦 Faster navigation: EAGER page-load strategy + readiness detector
+     *
+     * driver.get() with the default NORMAL strategy waits for every subresource.
+     * Here the driver returns once the DOM is parsed, and PageNavigator waits only until
+     * the page's network has been quiet for 300 ms — no fixed sleeps.
+     */
+    public static void demonstrateFastNavigation() {
+        WebDriver driver = new ChromeDriver(PageNavigator.eager(new ChromeOptions()));
+        PageNavigator navigator = new PageNavigator(driver,
+                ReadinessDetector.networkIdle(Duration.ofMillis(300)));
+
+        navigator.to("https://www.selenium.dev");
+        navigator.to("https://www.selenium.dev/documentation");
+        navigator.back();
+        navigator.forward();
+        navigator.refresh();
+
+        System.out.println("Ready: " + driver.getTitle());
+        driver.quit();
+    }
 }
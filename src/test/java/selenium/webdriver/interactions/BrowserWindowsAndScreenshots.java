@@ -10,7 +10,14 @@ import org.openqa.selenium.Dimension;
 import org.openqa.selenium.Point;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import org.apache.commons.io.FileUtils;
+import selenium.webdriver.printing.PdfExporter;
+import selenium.webdriver.screenshots.ElementScreenshots;
+import selenium.webdriver.screenshots.ScreenshotOptions;
+import selenium.webdriver.screenshots.ScreenshotService;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 public class BrowserWindowsAndScreenshots {
@@ -56,14 +63,22 @@ public class BrowserWindowsAndScreenshots {
         driver.manage().window().fullscreen();
 
         // ----------------- Take Screenshot of Page -----------------
-        File fullScreenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-        FileUtils.copyFile(fullScreenshot, new File("./pageScreenshot.png"));
+        // Only the capture happens here; decoding, hashing and writing run in the background
+        ScreenshotService screenshots = ScreenshotService.getInstance();
+        screenshots.capture(driver, Path.of("./pageScreenshot.png"));
+        screenshots.capture(driver, Path.of("./pageScreenshot.jpg"), ScreenshotOptions.jpeg(80));
 
         // ----------------- Take Screenshot of a WebElement -----------------
         WebElement logo = driver.findElement(By.cssSelector("img[alt='Selenium Logo']"));
         File elementScreenshot = logo.getScreenshotAs(OutputType.FILE);
         FileUtils.copyFile(elementScreenshot, new File("./elementScreenshot.png"));
 
+        // ----------------- Take Screenshots of many WebElements from one capture -----------------
+        Map<String, Object> targets = new LinkedHashMap<>();
+        targets.put("logo", logo);
+        targets.put("search", By.name("search"));
+        ElementScreenshots.save(driver, targets, Path.of("./elementScreenshots"));
+
         // ----------------- Execute JavaScript -----------------
         JavascriptExecutor js = (JavascriptExecutor) driver;
         WebElement searchBox = driver.findElement(By.name("search"));
@@ -76,12 +91,13 @@ public class BrowserWindowsAndScreenshots {
         if (driver instanceof PrintsPage) {
             PrintOptions printOptions = new PrintOptions();
             printOptions.setPageRanges("1-2");
-            Pdf pdf = ((PrintsPage) driver).print(printOptions);
-            String pdfContent = pdf.getContent(); // Base64-encoded PDF content
-            System.out.println("PDF Length: " + pdfContent.length());
+            // Streams the PDF to disk instead of holding pdf.getContent() (one big base64 String)
+            PdfExporter.Result pdf = PdfExporter.export(driver, printOptions, Path.of("./page.pdf"));
+            System.out.println("PDF: " + pdf.pages() + " pages, " + pdf.bytes() + " bytes");
         }
 
         // ----------------- Clean up -----------------
+        screenshots.flush(); // Wait for pending screenshot writes
         driver.quit(); // Closes all browser windows and ends session
     }
 }
\ No newline at end of file
@@ -3,7 +3,9 @@ package selenium.webdriver.interactions;
 import org.openqa.selenium.Cookie;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import selenium.webdriver.listeners.EventLog;
 
+import java.time.Duration;
 import java.util.Set;
 
 public class CookieHandlingDemo {
@@ -30,7 +32,7 @@ public class CookieHandlingDemo {
 
         // 2️⃣ Get a cookie by name
         Cookie retrievedCookie = driver.manage().getCookieNamed("foo");
-        System.out.println("Retrieved cookie: " + retrievedCookie.getName() + " = " + retrievedCookie.getValue());
+        EventLog.event("cookie.retrieved", "name", retrievedCookie.getName(), "value", retrievedCookie.getValue());
 
         // 3️⃣ Add multiple cookies
         driver.manage().addCookie(new Cookie("test1", "cookie1"));
@@ -38,19 +40,43 @@ public class CookieHandlingDemo {
 
         // 4️⃣ Get all cookies and print their details
         Set<Cookie> allCookies = driver.manage().getCookies();
-        System.out.println("All cookies:");
+        EventLog.event("cookie.all", "count", allCookies.size());
         for (Cookie c : allCookies) {
-            System.out.println("- " + c.getName() + ": " + c.getValue());
+            EventLog.event("cookie", "name", c.getName(), "value", c.getValue());
         }
 
         // 5️⃣ Delete a cookie by name
         driver.manage().deleteCookieNamed("test1");
-        System.out.println("Deleted cookie: test1");
+        EventLog.event("cookie.deleted", "name", "test1");
 
         // 6️⃣ Delete all cookies
         driver.manage().deleteAllCookies();
-        System.out.println("All cookies deleted.");
+        EventLog.event("cookie.deletedAll");
 
         driver.quit();
     }
-}
\ No newline at end of file
+
+    /**
+     * 🔐 Reusing a logged-in session
+     *
+     * Instead of adding cookies one at a time (or logging in through the UI in every test),
+     * snapshot the whole state once — cookies + localStorage + sessionStorage — and restore it
+     * into a new driver before its first navigation.
+     */
+    public static void demonstrateSessionStateReuse() {
+        SessionStateStore store = SessionStateStore.getDefault();
+
+        WebDriver loginDriver = new ChromeDriver();
+        loginDriver.get("https://www.selenium.dev/selenium/web/blank.html");
+        loginDriver.manage().addCookie(new Cookie("session", "logged-in-token"));  // stands in for a UI login
+        store.save("demo-user", SessionStateStore.snapshot(loginDriver), Duration.ofMinutes(30));
+        loginDriver.quit();
+
+        WebDriver driver = new ChromeDriver();
+        store.load("demo-user").ifPresent(state -> SessionStateStore.restore(driver, state));
+        driver.get("https://www.selenium.dev/selenium/web/blank.html");
+        EventLog.event("cookie.restored", "cookie", driver.manage().getCookieNamed("session"));
+
+        driver.quit();
+    }
+}
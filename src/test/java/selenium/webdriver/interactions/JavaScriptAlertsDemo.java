@@ -7,6 +7,7 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import selenium.webdriver.listeners.EventLog;
 
 import java.time.Duration;
 
@@ -37,21 +38,21 @@ public class JavaScriptAlertsDemo {
         driver.findElement(By.xpath("//button[text()='Click for JS Alert']")).click();
         wait.until(ExpectedConditions.alertIsPresent());
         Alert alert = driver.switchTo().alert();
-        System.out.println("Alert text: " + alert.getText());
+        EventLog.event("alert.text", "type", "alert", "text", alert.getText());
         alert.accept();
 
         // 2️⃣ Handle Confirm (OK or Cancel)
         driver.findElement(By.xpath("//button[text()='Click for JS Confirm']")).click();
         wait.until(ExpectedConditions.alertIsPresent());
         Alert confirm = driver.switchTo().alert();
-        System.out.println("Confirm text: " + confirm.getText());
+        EventLog.event("alert.text", "type", "confirm", "text", confirm.getText());
         confirm.dismiss(); // or confirm.accept();
 
         // 3️⃣ Handle Prompt (text input + OK/Cancel)
         driver.findElement(By.xpath("//button[text()='Click for JS Prompt']")).click();
         wait.until(ExpectedConditions.alertIsPresent());
         Alert prompt = driver.switchTo().alert();
-        System.out.println("Prompt text: " + prompt.getText());
+        EventLog.event("alert.text", "type", "prompt", "text", prompt.getText());
         prompt.sendKeys("Selenium"); // replace default text
         prompt.accept();
 
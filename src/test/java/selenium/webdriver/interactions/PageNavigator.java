@@ -0,0 +1,134 @@
+package selenium.webdriver.interactions;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.AbstractDriverOptions;
+import selenium.webdriver.waits.BrowserWait;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 🧭 PageNavigator — navigation that waits for "ready", not for "everything loaded"
+ *
+ * Pair a driver started with the EAGER (or NONE) page-load strategy with a
+ * {@link ReadinessDetector}. Every navigation (to, back, forward, refresh):
+ *  1. marks the current document,
+ *  2. navigates,
+ *  3. waits until a NEW document is present (the mark is gone),
+ *  4. waits for the detector.
+ * Step 3 matters with NONE: the command returns immediately, and the old page would
+ * otherwise look "ready". (So same-document navigations, e.g. #hash changes, are not for this class.)
+ *
+ * ✅ Example:
+ *     ChromeOptions options = PageNavigator.eager(new ChromeOptions());
+ *     WebDriver driver = new ChromeDriver(options);
+ *     PageNavigator nav = new PageNavigator(driver, ReadinessDetector.networkIdle(Duration.ofMillis(300)));
+ *     nav.to("https://www.selenium.dev");
+ *     nav.back();
+ */
+public class PageNavigator {
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+    private static final String MARKER = "__seleniumNavigationMarker";
+
+    private final WebDriver driver;
+    private final ReadinessDetector detector;
+    private final Duration timeout;
+
+    public PageNavigator(WebDriver driver, ReadinessDetector detector) {
+        this(driver, detector, DEFAULT_TIMEOUT);
+    }
+
+    public PageNavigator(WebDriver driver, ReadinessDetector detector, Duration timeout) {
+        this.driver = driver;
+        this.detector = detector;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Sets the EAGER page-load strategy: driver.get() returns after DOMContentLoaded.
+     */
+    public static <O extends AbstractDriverOptions<?>> O eager(O options) {
+        options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        return options;
+    }
+
+    /**
+     * Sets the NONE page-load strategy: navigation commands return immediately.
+     */
+    public static <O extends AbstractDriverOptions<?>> O none(O options) {
+        options.setPageLoadStrategy(PageLoadStrategy.NONE);
+        return options;
+    }
+
+    public void to(String url) {
+        navigate(() -> driver.navigate().to(url));
+    }
+
+    public void back() {
+        navigate(() -> driver.navigate().back());
+    }
+
+    public void forward() {
+        navigate(() -> driver.navigate().forward());
+    }
+
+    public void refresh() {
+        navigate(() -> driver.navigate().refresh());
+    }
+
+    private void navigate(Runnable navigation) {
+        long start = System.nanoTime();
+        String mark = markCurrentDocument();
+        navigation.run();
+        awaitNewDocument(mark, start);
+        Duration remaining = timeout.minusNanos(System.nanoTime() - start);
+        detector.await(driver, remaining.isNegative() ? Duration.ZERO : remaining);
+    }
+
+    private String markCurrentDocument() {
+        String mark = UUID.randomUUID().toString();
+        try {
+            ((JavascriptExecutor) driver).executeScript("window['" + MARKER + "'] = arguments[0];", mark);
+        } catch (WebDriverException e) {
+            // Document is being swapped (a navigation still in progress) — nothing stable to tell apart
+            if (!BrowserWait.isNavigationError(e)) {
+                throw e;
+            }
+            return null;
+        }
+        return mark;
+    }
+
+    private void awaitNewDocument(String mark, long start) {
+        if (mark == null) {
+            return;
+        }
+        while (true) {
+            try {
+                Object current = ((JavascriptExecutor) driver).executeScript("return window['" + MARKER + "'] || null;");
+                if (!mark.equals(current)) {
+                    return;
+                }
+            } catch (WebDriverException e) {
+                // Document is being swapped right now — try again; anything else is a real failure
+                if (!BrowserWait.isNavigationError(e)) {
+                    throw e;
+                }
+            }
+            if (System.nanoTime() - start > timeout.toNanos()) {
+                throw new TimeoutException("Navigation did not start a new document within " + timeout.toMillis() + " ms");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WebDriverException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package selenium.webdriver.interactions;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import selenium.webdriver.waits.BrowserWait;
+
+import java.time.Duration;
+
+/**
+ * 🚦 ReadinessDetector — "when is this page ready for my test?"
+ *
+ * With the NORMAL page-load strategy every navigation waits for the load event — every image,
+ * iframe and tracking pixel. Most tests only need the DOM. Run the driver with EAGER or NONE
+ * and decide readiness with a detector instead:
+ *
+ *  - domContentLoaded()      — DOM parsed (what EAGER gives you)
+ *  - networkIdle(quiet)      — DOM parsed, no fetch/XHR in flight and no request finished for {@code quiet}
+ *  - angularStable()         — all Angular testabilities report stable
+ *  - jQueryIdle()            — no active jQuery AJAX requests
+ *  - jsPredicate("expr")     — any JavaScript boolean expression
+ * Detectors combine with and(), and are checked in the page (one executeAsyncScript call).
+ */
+public final class ReadinessDetector {
+
+    private static final Duration SCRIPT_TIMEOUT_MARGIN = Duration.ofSeconds(2);
+
+    /**
+     * Polls the expression in the page every 25 ms until true or timed out.
+     * {@code s} is a state object that survives between polls (for "stable for N ms" checks).
+     */
+    private static final String POLL_SCRIPT = """
+            var timeoutMs = arguments[0], done = arguments[arguments.length - 1];
+            var s = {}, start = performance.now();
+            (function poll() {
+              var ready = false;
+              try { ready = !!(%s); } catch (e) { ready = false; }
+              if (ready) { done(true); return; }
+              if (performance.now() - start >= timeoutMs) { done(false); return; }
+              setTimeout(poll, 25);
+            })();
+            """;
+
+    private final String name;
+    private final String expression;
+
+    private ReadinessDetector(String name, String expression) {
+        this.name = name;
+        this.expression = expression;
+    }
+
+    public static ReadinessDetector domContentLoaded() {
+        return new ReadinessDetector("DOMContentLoaded", "document.readyState !== 'loading'");
+    }
+
+    /**
+     * DOM parsed, no fetch/XHR in flight and no request finished for {@code quiet}.
+     *
+     * On first use in a document, fetch and XMLHttpRequest are wrapped to count requests in flight,
+     * and a PerformanceObserver notes every finished resource. (Counting the resource timing buffer
+     * does not work: it stops growing at 150 entries, and such a page would look idle for good.)
+     * Requests started before the first check are not counted in flight, but their completion
+     * still resets the quiet period.
+     */
+    public static ReadinessDetector networkIdle(Duration quiet) {
+        return new ReadinessDetector("network idle for " + quiet.toMillis() + "ms", """
+                (function () {
+                  var net = window.__seleniumNetwork;
+                  if (!net) {
+                    net = window.__seleniumNetwork = { inflight: 0, last: performance.now() };
+                    var settle = function () { net.inflight = Math.max(0, net.inflight - 1); net.last = performance.now(); };
+                    if (window.fetch) {
+                      var fetch = window.fetch;
+                      window.fetch = function () {
+                        net.inflight++;
+                        var pending;
+                        try { pending = fetch.apply(this, arguments); } catch (e) { settle(); throw e; }
+                        return pending.then(function (r) { settle(); return r; }, function (e) { settle(); throw e; });
+                      };
+                    }
+                    var send = XMLHttpRequest.prototype.send;
+                    XMLHttpRequest.prototype.send = function () {
+                      net.inflight++;
+                      this.addEventListener('loadend', settle);
+                      try { return send.apply(this, arguments); }
+                      catch (e) { this.removeEventListener('loadend', settle); settle(); throw e; }
+                    };
+                    try {
+                      new PerformanceObserver(function () { net.last = performance.now(); })
+                          .observe({ type: 'resource', buffered: true });
+                    } catch (e) {}
+                  }
+                  return document.readyState !== 'loading' && net.inflight === 0 && performance.now() - net.last >= %d;
+                })()""".formatted(quiet.toMillis()));
+    }
+
+    public static ReadinessDetector angularStable() {
+        return new ReadinessDetector("Angular stable", """
+                !window.getAllAngularTestabilities
+                  || window.getAllAngularTestabilities().every(function (t) { return t.isStable(); })""");
+    }
+
+    public static ReadinessDetector jQueryIdle() {
+        return new ReadinessDetector("jQuery idle", "!window.jQuery || window.jQuery.active === 0");
+    }
+
+    /**
+     * Any JavaScript boolean expression, e.g. {@code "!!document.querySelector('#app[data-ready]')"}.
+     */
+    public static ReadinessDetector jsPredicate(String expression) {
+        return new ReadinessDetector("JS: " + expression, expression);
+    }
+
+    public ReadinessDetector and(ReadinessDetector other) {
+        return new ReadinessDetector(name + " AND " + other.name,
+                "(" + expression + ") && (" + other.expression + ")");
+    }
+
+    /**
+     * Blocks until the current document is ready.
+     *
+     * @throws TimeoutException if it is not ready within the timeout
+     */
+    public void await(WebDriver driver, Duration timeout) {
+        String script = String.format(POLL_SCRIPT, expression);
+        WebDriver.Timeouts timeouts = driver.manage().timeouts();
+        Duration originalScriptTimeout = timeouts.getScriptTimeout();
+        long end = System.nanoTime() + timeout.toNanos();
+        try {
+            while (true) {
+                long remainingMs = Math.max(0, (end - System.nanoTime()) / 1_000_000);
+                timeouts.scriptTimeout(Duration.ofMillis(remainingMs).plus(SCRIPT_TIMEOUT_MARGIN));
+                try {
+                    if (Boolean.TRUE.equals(((JavascriptExecutor) driver).executeAsyncScript(script, remainingMs))) {
+                        return;
+                    }
+                    throw new TimeoutException("Page not ready: " + name + " (waited " + timeout.toMillis() + " ms)");
+                } catch (ScriptTimeoutException e) {
+                    throw new TimeoutException("Page not ready: " + name + " (waited " + timeout.toMillis() + " ms)", e);
+                } catch (TimeoutException e) {
+                    throw e;
+                } catch (WebDriverException e) {
+                    // 🔁 Document replaced while waiting (navigation still in progress) — check the new one
+                    if (!BrowserWait.isNavigationError(e)) {
+                        throw e;
+                    }
+                    if (System.nanoTime() >= end) {
+                        throw new TimeoutException("Page not ready: " + name, e);
+                    }
+                }
+            }
+        } finally {
+            timeouts.scriptTimeout(originalScriptTimeout);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
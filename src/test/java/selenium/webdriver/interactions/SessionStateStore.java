@@ -0,0 +1,289 @@
+package selenium.webdriver.interactions;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import selenium.webdriver.utils.DriverPool;
+import selenium.webdriver.utils.WebDriverUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 🔐 SessionStateStore — log in once, reuse the logged-in state everywhere
+ *
+ * Logging in through the UI costs 5–10 s per test. After one login, snapshot() captures
+ * what makes the browser "logged in" for an origin:
+ *  - all cookies (including HttpOnly ones, which document.cookie cannot see)
+ *  - localStorage and sessionStorage (where SPAs keep their tokens)
+ * save() persists it as JSON keyed by user/role with an expiry, and restore() puts it
+ * into a fresh or pooled driver before its first navigation.
+ *
+ * ✅ Example:
+ *     SessionStateStore store = SessionStateStore.getDefault();
+ *     SessionStateStore.SessionState admin = store.load("admin").orElseGet(() -> {
+ *         loginThroughUi(driver, "admin");
+ *         return store.save("admin", SessionStateStore.snapshot(driver), Duration.ofHours(1));
+ *     });
+ *     SessionStateStore.restore(otherDriver, admin);
+ *     otherDriver.get(admin.origin() + "/dashboard");   // already logged in
+ *
+ * ⚙️ Restore on Chromium is one CDP call for all cookies (Network.setCookies) plus a script
+ * registered to seed storage as the first document of the origin loads — no extra navigation.
+ * The script stays registered for the tab until forgetRestores() (registered as a DriverPool reset
+ * callback, so the next lease does not log in again by itself).
+ * Other browsers navigate to the origin once, add the cookies and set storage in one script.
+ */
+public class SessionStateStore {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String RESTORED_MARKER = "__seleniumStateRestored";
+    // Session ID → identifiers of the seeding scripts registered by restore()
+    private static final Map<String, List<String>> RESTORE_SCRIPTS = new ConcurrentHashMap<>();
+
+    static {
+        DriverPool.onReset(SessionStateStore::forgetRestores);
+    }
+
+    private static final SessionStateStore DEFAULT =
+            new SessionStateStore(Paths.get(System.getProperty("session.state.dir", "target/session-state")));
+
+    private final Path directory;
+
+    public SessionStateStore(Path directory) {
+        this.directory = directory;
+    }
+
+    public static SessionStateStore getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * A cookie as stored on disk. {@code expiry} is epoch millis, or null for session cookies.
+     */
+    public record StoredCookie(String name, String value, String domain, String path, Long expiry,
+                               boolean secure, boolean httpOnly, String sameSite) {
+
+        static StoredCookie from(Cookie cookie) {
+            return new StoredCookie(cookie.getName(), cookie.getValue(), cookie.getDomain(), cookie.getPath(),
+                    cookie.getExpiry() == null ? null : cookie.getExpiry().getTime(),
+                    cookie.isSecure(), cookie.isHttpOnly(), cookie.getSameSite());
+        }
+
+        Cookie toCookie() {
+            return new Cookie.Builder(name, value)
+                    .domain(domain)
+                    .path(path)
+                    .expiresOn(expiry == null ? null : new Date(expiry))
+                    .isSecure(secure)
+                    .isHttpOnly(httpOnly)
+                    .sameSite(sameSite)
+                    .build();
+        }
+
+        boolean isExpired(long now) {
+            return expiry != null && expiry <= now;
+        }
+    }
+
+    /**
+     * Logged-in state of one origin. Times are epoch millis.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record SessionState(String origin, List<StoredCookie> cookies, Map<String, String> localStorage,
+                               Map<String, String> sessionStorage, long capturedAt, long expiresAt) {
+
+        @JsonIgnore
+        public boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+
+    /**
+     * Captures cookies and web storage of the page currently open in the driver.
+     */
+    @SuppressWarnings("unchecked")
+    public static SessionState snapshot(WebDriver driver) {
+        Map<String, Object> page = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript("""
+                function dump(storage) {
+                  var items = {};
+                  for (var i = 0; i < storage.length; i++) items[storage.key(i)] = storage.getItem(storage.key(i));
+                  return items;
+                }
+                return { origin: location.origin, local: dump(localStorage), session: dump(sessionStorage) };
+                """);
+        List<StoredCookie> cookies = new ArrayList<>();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            cookies.add(StoredCookie.from(cookie));
+        }
+        Map<String, String> session = new HashMap<>((Map<String, String>) page.get("session"));
+        session.remove(RESTORED_MARKER);
+        return new SessionState((String) page.get("origin"), cookies,
+                (Map<String, String>) page.get("local"), session, System.currentTimeMillis(), Long.MAX_VALUE);
+    }
+
+    /**
+     * Persists the state under {@code key} (e.g. a user or role name) for {@code ttl}.
+     */
+    public SessionState save(String key, SessionState state, Duration ttl) {
+        SessionState stored = new SessionState(state.origin(), state.cookies(), state.localStorage(),
+                state.sessionStorage(), state.capturedAt(), System.currentTimeMillis() + ttl.toMillis());
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "state", ".tmp");
+            MAPPER.writeValue(temp.toFile(), stored);
+            // Atomic replace, so parallel tests never read a half-written file
+            Files.move(temp, fileFor(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not save session state '" + key + "'", e);
+        }
+        return stored;
+    }
+
+    /**
+     * The stored state for {@code key}, unless missing or expired. Expired cookies are dropped.
+     */
+    public Optional<SessionState> load(String key) {
+        Path file = fileFor(key);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            SessionState state = MAPPER.readValue(file.toFile(), SessionState.class);
+            if (state.isExpired()) {
+                return Optional.empty();
+            }
+            long now = System.currentTimeMillis();
+            List<StoredCookie> live = state.cookies().stream().filter(c -> !c.isExpired(now)).toList();
+            return Optional.of(new SessionState(state.origin(), live, state.localStorage(),
+                    state.sessionStorage(), state.capturedAt(), state.expiresAt()));
+        } catch (IOException e) {
+            System.out.println("⚠️ Ignoring unreadable session state " + file + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(fileFor(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Puts the state into the driver. Call it before navigating to the origin.
+     */
+    public static void restore(WebDriver driver, SessionState state) {
+        if (WebDriverUtil.unwrap(driver) instanceof HasCdp cdp) {
+            restoreViaCdp(cdp, state);
+            return;
+        }
+        // Cookies can only be added while on their domain
+        driver.get(state.origin());
+        for (StoredCookie cookie : state.cookies()) {
+            driver.manage().addCookie(cookie.toCookie());
+        }
+        ((JavascriptExecutor) driver).executeScript(seedStorageScript(state, false));
+    }
+
+    /**
+     * Unregisters the storage-seeding scripts restore() left on the driver's current tab.
+     */
+    public static void forgetRestores(WebDriver driver) {
+        if (!(WebDriverUtil.unwrap(driver) instanceof HasCdp cdp)) {
+            return;
+        }
+        List<String> identifiers = RESTORE_SCRIPTS.remove(sessionKey(cdp));
+        if (identifiers == null) {
+            return;
+        }
+        for (String identifier : identifiers) {
+            try {
+                cdp.executeCdpCommand("Page.removeScriptToEvaluateOnNewDocument", Map.of("identifier", identifier));
+            } catch (WebDriverException e) {
+                // Registered on a tab that has been closed since — gone with it
+            }
+        }
+    }
+
+    private static void restoreViaCdp(HasCdp cdp, SessionState state) {
+        List<Map<String, Object>> cookies = new ArrayList<>();
+        for (StoredCookie cookie : state.cookies()) {
+            Map<String, Object> c = new HashMap<>();
+            c.put("name", cookie.name());
+            c.put("value", cookie.value());
+            c.put("domain", cookie.domain());
+            c.put("path", cookie.path());
+            c.put("secure", cookie.secure());
+            c.put("httpOnly", cookie.httpOnly());
+            if (cookie.sameSite() != null) {
+                c.put("sameSite", cookie.sameSite());
+            }
+            if (cookie.expiry() != null) {
+                c.put("expires", cookie.expiry() / 1000.0);
+            }
+            cookies.add(c);
+        }
+        cdp.executeCdpCommand("Network.setCookies", Map.of("cookies", cookies));
+        if (!state.localStorage().isEmpty() || !state.sessionStorage().isEmpty()) {
+            Map<String, Object> registered = cdp.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                    Map.of("source", seedStorageScript(state, true)));
+            RESTORE_SCRIPTS.computeIfAbsent(sessionKey(cdp), key -> new CopyOnWriteArrayList<>())
+                    .add((String) registered.get("identifier"));
+        }
+    }
+
+    private static String sessionKey(HasCdp cdp) {
+        return cdp instanceof RemoteWebDriver remote
+                ? String.valueOf(remote.getSessionId())
+                : String.valueOf(System.identityHashCode(cdp));
+    }
+
+    /**
+     * Script that writes the stored items into web storage. When registered for new documents it
+     * runs only once per tab (marker in sessionStorage), so later app changes are not overwritten.
+     */
+    private static String seedStorageScript(SessionState state, boolean onNewDocument) {
+        try {
+            String local = MAPPER.writeValueAsString(state.localStorage());
+            String session = MAPPER.writeValueAsString(state.sessionStorage());
+            String origin = MAPPER.writeValueAsString(state.origin());
+            String seed = "Object.entries(" + local + ").forEach(function (e) { localStorage.setItem(e[0], e[1]); });"
+                    + "Object.entries(" + session + ").forEach(function (e) { sessionStorage.setItem(e[0], e[1]); });";
+            if (!onNewDocument) {
+                return seed;
+            }
+            return "(function () { try {"
+                    + " if (location.origin !== " + origin + " || sessionStorage.getItem('" + RESTORED_MARKER + "')) return;"
+                    + seed
+                    + " sessionStorage.setItem('" + RESTORED_MARKER + "', '1');"
+                    + " } catch (e) {} })();";
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path fileFor(String key) {
+        return directory.resolve(key.replaceAll("[^A-Za-z0-9._-]", "_") + ".json");
+    }
+}
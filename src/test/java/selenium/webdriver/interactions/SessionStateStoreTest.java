@@ -0,0 +1,70 @@
+package selenium.webdriver.interactions;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class SessionStateStoreTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    @Test
+    public void savedStateLoadsBack() throws IOException {
+        SessionStateStore store = new SessionStateStore(Files.createTempDirectory("state"));
+        long now = System.currentTimeMillis();
+        SessionStateStore.StoredCookie session = new SessionStateStore.StoredCookie(
+                "sid", "abc", "example.com", "/", null, true, true, "Lax");
+        SessionStateStore.StoredCookie remembered = new SessionStateStore.StoredCookie(
+                "remember", "1", "example.com", "/", now + HOUR, false, false, null);
+        SessionStateStore.SessionState state = new SessionStateStore.SessionState("https://example.com",
+                List.of(session, remembered), Map.of("token", "t-1"), Map.of("tab", "2"), now, Long.MAX_VALUE);
+
+        SessionStateStore.SessionState saved = store.save("admin user", state, Duration.ofHours(1));
+        Optional<SessionStateStore.SessionState> loaded = store.load("admin user");
+
+        assertTrue(loaded.isPresent());
+        assertEquals(loaded.get(), saved);
+    }
+
+    @Test
+    public void expiredCookiesAreDroppedOnLoad() throws IOException {
+        SessionStateStore store = new SessionStateStore(Files.createTempDirectory("state"));
+        long now = System.currentTimeMillis();
+        SessionStateStore.StoredCookie stale = new SessionStateStore.StoredCookie(
+                "old", "x", "example.com", "/", now - HOUR, false, false, null);
+        SessionStateStore.StoredCookie live = new SessionStateStore.StoredCookie(
+                "new", "y", "example.com", "/", now + HOUR, false, false, null);
+        store.save("user", new SessionStateStore.SessionState("https://example.com",
+                List.of(stale, live), Map.of(), Map.of(), now, 0), Duration.ofHours(1));
+
+        assertEquals(store.load("user").orElseThrow().cookies(), List.of(live));
+    }
+
+    @Test
+    public void expiredStateIsNotLoaded() throws IOException {
+        SessionStateStore store = new SessionStateStore(Files.createTempDirectory("state"));
+        store.save("user", new SessionStateStore.SessionState("https://example.com",
+                List.of(), Map.of(), Map.of(), 0, 0), Duration.ofMillis(-1));
+
+        assertTrue(store.load("user").isEmpty());
+    }
+
+    @Test
+    public void filesWrittenWithTheExpiredFlagStillLoad() throws IOException {
+        Path dir = Files.createTempDirectory("state");
+        Files.writeString(dir.resolve("user.json"), "{\"origin\":\"https://example.com\",\"cookies\":[],"
+                + "\"localStorage\":{},\"sessionStorage\":{},\"capturedAt\":0,"
+                + "\"expiresAt\":" + Long.MAX_VALUE + ",\"expired\":false}");
+
+        assertTrue(new SessionStateStore(dir).load("user").isPresent());
+    }
+}
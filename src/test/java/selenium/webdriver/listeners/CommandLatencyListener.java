@@ -0,0 +1,95 @@
+package selenium.webdriver.listeners;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+/**
+ * 📡 CommandLatencyListener — times every WebDriver / WebElement call
+ *
+ * Wraps a driver with {@link EventFiringDecorator}; every call on the driver, its elements,
+ * navigation, alerts etc. is timed and recorded in {@link CommandMetrics}, tagged with
+ * command, locator strategy (for find calls), browser and session id.
+ *
+ * ✅ Example:
+ *     WebDriver driver = CommandLatencyListener.decorate(new ChromeDriver());
+ *     ...
+ *     CommandMetrics.summary().forEach(System.out::println);
+ *     CommandMetrics.writePrometheus(Path.of("target/metrics/webdriver.prom"));
+ */
+public class CommandLatencyListener implements WebDriverListener {
+
+    // Calls that only return a helper object (no browser round trip) are not worth timing
+    private static final Set<String> LOCAL_CALLS = Set.of(
+            "manage", "navigate", "switchTo", "timeouts", "window", "logs",
+            "getWrappedDriver", "getWrappedElement", "toString", "hashCode", "equals");
+
+    private final ThreadLocal<Deque<Long>> starts = ThreadLocal.withInitial(ArrayDeque::new);
+    private final String browser;
+    private final String session;
+
+    public CommandLatencyListener(WebDriver driver) {
+        Capabilities capabilities = driver instanceof HasCapabilities c ? c.getCapabilities() : null;
+        this.browser = capabilities == null ? "unknown" : capabilities.getBrowserName();
+        this.session = driver instanceof RemoteWebDriver remote && remote.getSessionId() != null
+                ? remote.getSessionId().toString() : "unknown";
+    }
+
+    public static WebDriver decorate(WebDriver driver) {
+        return new EventFiringDecorator<>(new CommandLatencyListener(driver)).decorate(driver);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (!LOCAL_CALLS.contains(method.getName())) {
+            starts.get().push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method, args, "");
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        // Failed commands are timed too, under their own name (a slow timeout is still suite time)
+        finish(method, args, "!error");
+    }
+
+    private void finish(Method method, Object[] args, String suffix) {
+        if (LOCAL_CALLS.contains(method.getName())) {
+            return;
+        }
+        Deque<Long> stack = starts.get();
+        if (stack.isEmpty()) {
+            return;
+        }
+        long micros = (System.nanoTime() - stack.pop()) / 1_000;
+        CommandMetrics.record(new CommandMetrics.Tags(method.getName() + suffix, strategy(args), browser, session), micros);
+    }
+
+    private static String strategy(Object[] args) {
+        if (args != null) {
+            for (Object arg : args) {
+                if (arg instanceof By.Remotable remotable) {
+                    return remotable.getRemoteParameters().using();
+                }
+                if (arg instanceof By by) {
+                    return by.getClass().getSimpleName();
+                }
+            }
+        }
+        return "-";
+    }
+}
@@ -0,0 +1,147 @@
+package selenium.webdriver.listeners;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * ⏱️ CommandMetrics — where does the suite time actually go?
+ *
+ * Latencies of WebDriver commands (recorded by {@link CommandLatencyListener}) are kept in
+ * per-thread histograms, one per combination of tags:
+ *     command (findElement, click, ...) × locator strategy × browser × session
+ * Each thread writes only its own histograms, so recording never contends with other threads.
+ *
+ * ✅ Outputs:
+ *  - writePrometheus(path) — text exposition format with p50/p90/p99, count and sum
+ *  - beginTest() / endTest() — per-test summary of the commands run by the current thread
+ */
+public final class CommandMetrics {
+
+    public record Tags(String command, String strategy, String browser, String session) {
+    }
+
+    private static final ConcurrentLinkedQueue<Map<Tags, LatencyHistogram>> ALL_THREADS = new ConcurrentLinkedQueue<>();
+
+    private static final ThreadLocal<Map<Tags, LatencyHistogram>> THREAD = ThreadLocal.withInitial(() -> {
+        Map<Tags, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+        ALL_THREADS.add(histograms);
+        return histograms;
+    });
+
+    private static final ThreadLocal<Map<Tags, LatencyHistogram>> CURRENT_TEST = new ThreadLocal<>();
+
+    private CommandMetrics() {
+    }
+
+    static void record(Tags tags, long micros) {
+        THREAD.get().computeIfAbsent(tags, t -> new LatencyHistogram()).record(micros);
+        Map<Tags, LatencyHistogram> test = CURRENT_TEST.get();
+        if (test != null) {
+            test.computeIfAbsent(tags, t -> new LatencyHistogram()).record(micros);
+        }
+    }
+
+    /**
+     * Starts collecting a per-test summary for commands issued by this thread.
+     */
+    public static void beginTest() {
+        CURRENT_TEST.set(new HashMap<>());
+    }
+
+    /**
+     * Ends the current test and returns its summary lines, slowest total first.
+     */
+    public static List<String> endTest() {
+        Map<Tags, LatencyHistogram> test = CURRENT_TEST.get();
+        CURRENT_TEST.remove();
+        return test == null ? List.of() : summarize(byCommand(test));
+    }
+
+    /**
+     * All threads merged, per command (tags other than the command folded together).
+     */
+    public static List<String> summary() {
+        return summarize(byCommand(merged()));
+    }
+
+    /**
+     * Writes every tag combination in Prometheus text format (atomically replaces the file).
+     */
+    public static void writePrometheus(Path file) {
+        Map<Tags, LatencyHistogram> merged = merged();
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "metrics", ".tmp");
+            try (Writer out = Files.newBufferedWriter(temp)) {
+                out.write("# HELP webdriver_command_latency_seconds Latency of WebDriver commands.\n");
+                out.write("# TYPE webdriver_command_latency_seconds summary\n");
+                for (Map.Entry<Tags, LatencyHistogram> entry : merged.entrySet()) {
+                    String labels = labels(entry.getKey());
+                    LatencyHistogram h = entry.getValue();
+                    for (double q : new double[]{0.5, 0.9, 0.99}) {
+                        out.write("webdriver_command_latency_seconds{" + labels + ",quantile=\"" + q + "\"} "
+                                + seconds(h.percentileMicros(q)) + "\n");
+                    }
+                    out.write("webdriver_command_latency_seconds_sum{" + labels + "} " + seconds(h.sumMicros()) + "\n");
+                    out.write("webdriver_command_latency_seconds_count{" + labels + "} " + h.count() + "\n");
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write metrics to " + file, e);
+        }
+    }
+
+    private static Map<Tags, LatencyHistogram> merged() {
+        Map<Tags, LatencyHistogram> merged = new HashMap<>();
+        for (Map<Tags, LatencyHistogram> thread : ALL_THREADS) {
+            thread.forEach((tags, h) -> merged.computeIfAbsent(tags, t -> new LatencyHistogram()).addAll(h));
+        }
+        return merged;
+    }
+
+    private static Map<String, LatencyHistogram> byCommand(Map<Tags, LatencyHistogram> histograms) {
+        Map<String, LatencyHistogram> byCommand = new TreeMap<>();
+        histograms.forEach((tags, h) -> byCommand.computeIfAbsent(tags.command(), c -> new LatencyHistogram()).addAll(h));
+        return byCommand;
+    }
+
+    private static List<String> summarize(Map<String, LatencyHistogram> byCommand) {
+        List<Map.Entry<String, LatencyHistogram>> entries = new ArrayList<>(byCommand.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, LatencyHistogram> e) -> e.getValue().sumMicros()).reversed());
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, LatencyHistogram> e : entries) {
+            LatencyHistogram h = e.getValue();
+            lines.add(String.format("%-24s count=%-6d total=%8.1fms p50=%7.1fms p90=%7.1fms p99=%7.1fms",
+                    e.getKey(), h.count(), h.sumMicros() / 1000.0, h.percentileMicros(0.5) / 1000.0,
+                    h.percentileMicros(0.9) / 1000.0, h.percentileMicros(0.99) / 1000.0));
+        }
+        return lines;
+    }
+
+    private static String labels(Tags tags) {
+        return "command=\"" + escape(tags.command()) + "\",strategy=\"" + escape(tags.strategy())
+                + "\",browser=\"" + escape(tags.browser()) + "\",session=\"" + escape(tags.session()) + "\"";
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String seconds(long micros) {
+        return String.valueOf(micros / 1_000_000.0);
+    }
+}
@@ -0,0 +1,64 @@
+package selenium.webdriver.listeners;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * 🧾 CommandMetricsReporter — TestNG hook for {@link CommandMetrics}
+ *
+ *  - per test: writes the commands that test issued to {@code <dir>/tests/<class>.<method>.txt}
+ *  - per suite: writes {@code <dir>/webdriver.prom} (Prometheus text format)
+ *
+ * 🔧 Output directory: -Dmetrics.dir (default: target/metrics)
+ */
+public class CommandMetricsReporter implements ITestListener, ISuiteListener {
+
+    private static final Path DIR = Paths.get(System.getProperty("metrics.dir", "target/metrics"));
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        CommandMetrics.beginTest();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        writeTestSummary(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        writeTestSummary(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        CommandMetrics.endTest();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        CommandMetrics.writePrometheus(DIR.resolve("webdriver.prom"));
+    }
+
+    private static void writeTestSummary(ITestResult result) {
+        List<String> lines = CommandMetrics.endTest();
+        if (lines.isEmpty()) {
+            return;
+        }
+        String name = result.getMethod().getRealClass().getName() + "." + result.getMethod().getMethodName();
+        try {
+            Path dir = Files.createDirectories(DIR.resolve("tests"));
+            Files.write(dir.resolve(name + ".txt"), lines);
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write command metrics for " + name + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package selenium.webdriver.listeners;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 📝 EventLog — structured test-step events without System.out
+ *
+ * {@code System.out.println} takes the stdout lock on every call: with 32 parallel sessions the
+ * test threads queue up behind each other and their lines interleave. EventLog instead:
+ *
+ * ✅ gives every test thread its own fixed-size ring buffer — logging is a few field writes,
+ *    no lock, no string building, no allocation beyond what the caller passes in
+ * ✅ drains all rings on ONE background thread, which writes newline-delimited JSON:
+ *      {"ts":1718000000000,"thread":"TestNG-3","test":"Basics#demoSeleniumBasics",
+ *       "session":"4f1c…","event":"page.title","title":"Web form"}
+ * ✅ stays bounded under bursts: when a thread's ring is full the event is dropped and counted,
+ *    and the writer reports the count as an "eventlog.dropped" event
+ *
+ * The test and session fields come from {@link EventLogListener} (TestNG) and WebDriverUtil (pool lease).
+ * Values are rendered on the writer thread, so pass immutable values (strings, numbers, ...).
+ *
+ * ✅ Example:
+ *     EventLog.event("alert.text", "type", "confirm", "text", confirm.getText());
+ *
+ * 🔧 Configuration (system properties):
+ *  - eventlog.file — output file, or "stdout" (default: target/events.ndjson)
+ *  - eventlog.ring — events buffered per thread, rounded up to a power of two (default: 1024)
+ */
+public final class EventLog {
+
+    private static final String TARGET = System.getProperty("eventlog.file", "target/events.ndjson");
+    private static final int RING_SIZE = Integer.highestOneBit(Math.max(1, Integer.getInteger("eventlog.ring", 1024) - 1) << 1);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    private static final List<Ring> RINGS = new CopyOnWriteArrayList<>();
+    private static final ThreadLocal<Ring> RING = ThreadLocal.withInitial(EventLog::register);
+    private static final AtomicLong DROPPED = new AtomicLong();
+
+    private static volatile Thread writer;
+    private static volatile boolean stopping;
+
+    private EventLog() {
+    }
+
+    public static void event(String name) {
+        publish(name, null, null, null, null, null, null);
+    }
+
+    public static void event(String name, String key, Object value) {
+        publish(name, key, value, null, null, null, null);
+    }
+
+    public static void event(String name, String key1, Object value1, String key2, Object value2) {
+        publish(name, key1, value1, key2, value2, null, null);
+    }
+
+    public static void event(String name, String key1, Object value1, String key2, Object value2,
+                             String key3, Object value3) {
+        publish(name, key1, value1, key2, value2, key3, value3);
+    }
+
+    /**
+     * Tags this thread's following events with a test name (null to clear).
+     */
+    public static void test(String test) {
+        RING.get().test = test;
+    }
+
+    /**
+     * Tags this thread's following events with a WebDriver session ID (null to clear).
+     */
+    public static void session(String sessionId) {
+        RING.get().session = sessionId;
+    }
+
+    /**
+     * Events dropped so far because a thread's ring was full.
+     */
+    public static long dropped() {
+        return DROPPED.get();
+    }
+
+    /**
+     * The file events are written to, or null when they go to stdout.
+     */
+    static Path file() {
+        return "stdout".equals(TARGET) ? null : Paths.get(TARGET).toAbsolutePath();
+    }
+
+    /**
+     * Blocks until everything logged before this call has been written out.
+     */
+    public static void flush() {
+        if (writer == null) {
+            return;
+        }
+        List<Ring> rings = List.copyOf(RINGS);
+        long[] targets = new long[rings.size()];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = rings.get(i).head.get();
+        }
+        LockSupport.unpark(writer);
+        for (int i = 0; i < targets.length; i++) {
+            while (rings.get(i).flushed < targets[i] && writer.isAlive()) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private static void publish(String name, String k1, Object v1, String k2, Object v2, String k3, Object v3) {
+        Ring ring = RING.get();
+        long head = ring.head.get();
+        if (head - ring.tail.getAcquire() >= RING_SIZE) {
+            DROPPED.incrementAndGet();
+            return;
+        }
+        Slot slot = ring.slots[(int) (head & (RING_SIZE - 1))];
+        slot.millis = System.currentTimeMillis();
+        slot.test = ring.test;
+        slot.session = ring.session;
+        slot.name = name;
+        slot.k1 = k1;
+        slot.v1 = v1;
+        slot.k2 = k2;
+        slot.v2 = v2;
+        slot.k3 = k3;
+        slot.v3 = v3;
+        // Publishes the slot to the writer thread
+        ring.head.setRelease(head + 1);
+    }
+
+    private static Ring register() {
+        Ring ring = new Ring(Thread.currentThread());
+        RINGS.add(ring);
+        startWriter();
+        return ring;
+    }
+
+    private static synchronized void startWriter() {
+        if (writer != null) {
+            return;
+        }
+        Thread thread = new Thread(EventLog::drainLoop, "event-log-writer");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            stopping = true;
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "event-log-shutdown"));
+        writer = thread;
+    }
+
+    private static void drainLoop() {
+        StringBuilder line = new StringBuilder(512);
+        long reportedDrops = 0;
+        try (Writer out = open()) {
+            while (true) {
+                boolean idle = true;
+                for (Ring ring : RINGS) {
+                    idle &= drain(ring, line, out) == 0;
+                }
+                long drops = DROPPED.get();
+                if (drops != reportedDrops) {
+                    line.setLength(0);
+                    line.append("{\"ts\":").append(System.currentTimeMillis())
+                            .append(",\"event\":\"eventlog.dropped\",\"count\":").append(drops - reportedDrops).append("}\n");
+                    out.append(line);
+                    reportedDrops = drops;
+                }
+                // One flush per pass over all rings, then flush() callers may return
+                out.flush();
+                for (Ring ring : RINGS) {
+                    ring.flushed = ring.tail.get();
+                    if (ring.owner.getState() == Thread.State.TERMINATED && ring.flushed == ring.head.getAcquire()) {
+                        RINGS.remove(ring);
+                    }
+                }
+                if (idle) {
+                    if (stopping) {
+                        return;
+                    }
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Event log writer failed", e);
+        }
+    }
+
+    /**
+     * Writes out everything published to {@code ring} so far.
+     *
+     * @return number of events written
+     */
+    private static int drain(Ring ring, StringBuilder line, Writer out) throws IOException {
+        long tail = ring.tail.get();
+        long head = ring.head.getAcquire();
+        for (long i = tail; i < head; i++) {
+            Slot slot = ring.slots[(int) (i & (RING_SIZE - 1))];
+            line.setLength(0);
+            line.append("{\"ts\":").append(slot.millis);
+            field(line, "thread", ring.threadName);
+            if (slot.test != null) {
+                field(line, "test", slot.test);
+            }
+            if (slot.session != null) {
+                field(line, "session", slot.session);
+            }
+            field(line, "event", slot.name);
+            if (slot.k1 != null) {
+                field(line, slot.k1, slot.v1);
+            }
+            if (slot.k2 != null) {
+                field(line, slot.k2, slot.v2);
+            }
+            if (slot.k3 != null) {
+                field(line, slot.k3, slot.v3);
+            }
+            line.append("}\n");
+            out.append(line);
+            slot.clear();
+            // Hands the slot back to the producer
+            ring.tail.setRelease(i + 1);
+        }
+        return (int) (head - tail);
+    }
+
+    private static void field(StringBuilder line, String key, Object value) {
+        line.append(",\"");
+        escape(line, key);
+        line.append("\":");
+        if (value == null) {
+            line.append("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            line.append(value);
+        } else {
+            line.append('"');
+            escape(line, String.valueOf(value));
+            line.append('"');
+        }
+    }
+
+    private static void escape(StringBuilder line, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Writer open() throws IOException {
+        OutputStream stream;
+        Path file = file();
+        if (file == null) {
+            // The writer is closed when the log stops; System.out must outlive it, so close only flushes
+            stream = new FilterOutputStream(System.out) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            };
+        } else {
+            Files.createDirectories(file.getParent());
+            stream = Files.newOutputStream(file);
+        }
+        return new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Single-producer (the owning test thread), single-consumer (the writer) ring.
+     */
+    private static final class Ring {
+        private final Thread owner;
+        private final String threadName;
+        private final Slot[] slots = new Slot[RING_SIZE];
+        private final AtomicLong head = new AtomicLong();
+        private final AtomicLong tail = new AtomicLong();
+        private volatile long flushed;
+        // Only touched by the owning thread
+        private String test;
+        private String session;
+
+        private Ring(Thread owner) {
+            this.owner = owner;
+            this.threadName = owner.getName();
+            for (int i = 0; i < RING_SIZE; i++) {
+                slots[i] = new Slot();
+            }
+        }
+    }
+
+    private static final class Slot {
+        private long millis;
+        private String test;
+        private String session;
+        private String name;
+        private String k1;
+        private Object v1;
+        private String k2;
+        private Object v2;
+        private String k3;
+        private Object v3;
+
+        private void clear() {
+            test = session = name = k1 = k2 = k3 = null;
+            v1 = v2 = v3 = null;
+        }
+    }
+}
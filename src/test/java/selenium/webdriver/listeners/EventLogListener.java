@@ -0,0 +1,48 @@
+package selenium.webdriver.listeners;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import selenium.webdriver.runner.DurationHistory;
+
+/**
+ * 📝 EventLogListener — TestNG hook for {@link EventLog}
+ *
+ *  - tags every event a test thread logs with the running test ({@code class#method})
+ *  - logs test.start / test.end (with status and duration)
+ *  - flushes the log when the suite finishes
+ */
+public class EventLogListener implements ITestListener, ISuiteListener {
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        EventLog.test(DurationHistory.key(result.getMethod()));
+        EventLog.event("test.start");
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        end(result, "passed");
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        end(result, "failed");
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        end(result, result.wasRetried() ? "retried" : "skipped");
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        EventLog.flush();
+    }
+
+    private static void end(ITestResult result, String status) {
+        EventLog.event("test.end", "status", status, "millis", result.getEndMillis() - result.getStartMillis());
+        EventLog.test(null);
+    }
+}
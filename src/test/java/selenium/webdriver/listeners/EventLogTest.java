@@ -0,0 +1,149 @@
+package selenium.webdriver.listeners;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class EventLogTest {
+
+    static {
+        // Takes effect when this class runs on its own; inside the suite the log is already open and
+        // the tests read whatever file it writes to, telling their own events apart by thread name
+        if (System.getProperty("eventlog.file") == null) {
+            try {
+                System.setProperty("eventlog.file", Files.createTempFile("eventlog", ".ndjson").toString());
+            } catch (IOException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+    }
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private Path file;
+
+    @BeforeClass
+    public void target() {
+        file = EventLog.file();
+        if (file == null) {
+            throw new SkipException("eventlog.file=stdout");
+        }
+    }
+
+    @Test
+    public void eachThreadsEventsAreWrittenInOrder() throws Exception {
+        String prefix = "order-" + UUID.randomUUID();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    EventLog.event("step", "seq", i);
+                }
+            }, prefix + "-" + t));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        EventLog.flush();
+
+        for (Thread thread : threads) {
+            List<JsonNode> events = eventsOf(thread.getName());
+            assertEquals(events.size(), 500, thread.getName());
+            for (int i = 0; i < events.size(); i++) {
+                assertEquals(events.get(i).get("seq").asInt(), i, thread.getName());
+            }
+        }
+    }
+
+    @Test
+    public void flushReturnsOnlyOnceTheLinesAreInTheFile() throws Exception {
+        String name = "flush-" + UUID.randomUUID();
+        Thread thread = new Thread(() -> {
+            for (int i = 0; i < 200; i++) {
+                EventLog.event("step", "seq", i);
+            }
+            EventLog.flush();
+        }, name);
+        thread.start();
+        thread.join();
+
+        // Read right away: no waiting or polling after flush() has returned
+        assertEquals(eventsOf(name).size(), 200);
+    }
+
+    @Test(timeOut = 30_000)
+    public void fullRingDropsAndCountsInsteadOfBlocking() throws Exception {
+        String name = "burst-" + UUID.randomUUID();
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // Values are rendered on the writer thread: this one holds it up so the ring cannot drain
+        Object stall = new Object() {
+            @Override
+            public String toString() {
+                writerBlocked.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "stall";
+            }
+        };
+        long[] accepted = {0};
+        long droppedBefore = EventLog.dropped();
+        Thread thread = new Thread(() -> {
+            EventLog.event("stall", "value", stall);
+            accepted[0]++;
+            try {
+                writerBlocked.await(10, TimeUnit.SECONDS);
+                long dropped = EventLog.dropped();
+                while (EventLog.dropped() == dropped) {
+                    EventLog.event("step", "seq", accepted[0]++);
+                }
+                // The last one did not make it into the ring
+                accepted[0]--;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                release.countDown();
+            }
+            EventLog.flush();
+        }, name);
+        thread.start();
+        thread.join();
+
+        assertTrue(EventLog.dropped() > droppedBefore);
+        List<JsonNode> events = eventsOf(name);
+        assertEquals(events.size(), accepted[0]);
+        for (int i = 1; i < events.size(); i++) {
+            assertEquals(events.get(i).get("seq").asLong(), i);
+        }
+        assertTrue(Files.readAllLines(file).stream().anyMatch(line -> line.contains("\"event\":\"eventlog.dropped\"")));
+    }
+
+    private List<JsonNode> eventsOf(String threadName) throws IOException {
+        List<JsonNode> events = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            JsonNode event = JSON.readTree(line);
+            if (threadName.equals(event.path("thread").asText())) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+}
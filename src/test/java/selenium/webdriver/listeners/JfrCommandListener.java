@@ -0,0 +1,87 @@
+package selenium.webdriver.listeners;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import jdk.jfr.EventType;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 🛩️ JfrCommandListener — one JFR {@link SeleniumEvents.CommandEvent} per WebDriver call
+ *
+ * While no recording has the event enabled, a call costs one flag check — no event object, no
+ * bookkeeping. WebDriverUtil installs the listener only with -Djfr.commands=true.
+ *
+ * ✅ Example:
+ *     WebDriver driver = JfrCommandListener.decorate(new ChromeDriver());
+ */
+public class JfrCommandListener implements WebDriverListener {
+
+    private static final EventType COMMAND = EventType.getEventType(SeleniumEvents.CommandEvent.class);
+
+    private final ThreadLocal<Deque<SeleniumEvents.CommandEvent>> open = ThreadLocal.withInitial(ArrayDeque::new);
+    private final String sessionId;
+
+    public JfrCommandListener(WebDriver driver) {
+        this.sessionId = driver instanceof RemoteWebDriver remote && remote.getSessionId() != null
+                ? remote.getSessionId().toString() : "unknown";
+    }
+
+    public static WebDriver decorate(WebDriver driver) {
+        return new EventFiringDecorator<>(new JfrCommandListener(driver)).decorate(driver);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (!COMMAND.isEnabled()) {
+            return;
+        }
+        SeleniumEvents.CommandEvent event = new SeleniumEvents.CommandEvent();
+        event.begin();
+        open.get().push(event);
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        commit(method, args, "ok");
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        commit(method, args, e.getCause() == null ? "error" : e.getCause().getClass().getSimpleName());
+    }
+
+    private void commit(Method method, Object[] args, String outcome) {
+        // A call that began while recording was off has nothing on the stack
+        Deque<SeleniumEvents.CommandEvent> stack = open.get();
+        if (stack.isEmpty()) {
+            return;
+        }
+        SeleniumEvents.CommandEvent event = stack.pop();
+        if (event.shouldCommit()) {
+            event.command = method.getName();
+            event.locator = locator(args);
+            event.sessionId = sessionId;
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+
+    private static String locator(Object[] args) {
+        if (args != null) {
+            for (Object arg : args) {
+                if (arg instanceof By) {
+                    return arg.toString();
+                }
+            }
+        }
+        return null;
+    }
+}
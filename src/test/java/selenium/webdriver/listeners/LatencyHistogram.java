@@ -0,0 +1,93 @@
+package selenium.webdriver.listeners;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 📊 LatencyHistogram — fixed-size, log-linear latency histogram
+ *
+ * Values (microseconds) fall into buckets that double in width every 8 buckets, so every
+ * value is stored within ~12% of its true size from 1 µs up to hours, in 512 longs.
+ *
+ * ⚡ Single writer: each histogram is recorded into by ONE thread only (see
+ * {@link CommandMetrics}), so recording is a plain read + ordered write — no locks, no CAS.
+ * Readers merge histograms from all threads at export time and may see a value a moment late.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKETS = 8;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLongArray totals = new AtomicLongArray(2); // [count, sum of µs]
+
+    public void record(long micros) {
+        int index = indexFor(Math.max(0, micros));
+        counts.setRelease(index, counts.getPlain(index) + 1);
+        totals.setRelease(0, totals.getPlain(0) + 1);
+        totals.setRelease(1, totals.getPlain(1) + micros);
+    }
+
+    public long count() {
+        return totals.getAcquire(0);
+    }
+
+    public long sumMicros() {
+        return totals.getAcquire(1);
+    }
+
+    /**
+     * Adds another histogram's counts into this one (used for merging per-thread histograms).
+     */
+    public void addAll(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long c = other.counts.getAcquire(i);
+            if (c != 0) {
+                counts.setRelease(i, counts.getPlain(i) + c);
+            }
+        }
+        totals.setRelease(0, totals.getPlain(0) + other.count());
+        totals.setRelease(1, totals.getPlain(1) + other.sumMicros());
+    }
+
+    /**
+     * Upper bound (µs) of the bucket holding the given quantile, e.g. 0.99.
+     */
+    public long percentileMicros(double quantile) {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.getAcquire(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.getAcquire(i);
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    static int indexFor(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);           // value in [2^e, 2^(e+1))
+        int sub = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return Math.min((exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub, BUCKETS - 1);
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int sub = index % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + (sub + 1) * width - 1;
+    }
+}
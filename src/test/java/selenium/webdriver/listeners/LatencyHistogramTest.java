@@ -0,0 +1,71 @@
+package selenium.webdriver.listeners;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void smallValuesHaveExactBuckets() {
+        for (long value = 0; value < 16; value++) {
+            assertEquals(LatencyHistogram.upperBound(LatencyHistogram.indexFor(value)), value);
+        }
+    }
+
+    @Test
+    public void everyValueFallsInsideItsBucketWithinAnEighth() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong(1L << random.nextInt(1, 50));
+            long upper = LatencyHistogram.upperBound(LatencyHistogram.indexFor(value));
+            assertTrue(upper >= value, value + " above its bucket bound " + upper);
+            assertTrue(upper - value <= value / 8, value + " stored as " + upper);
+        }
+    }
+
+    @Test
+    public void bucketsAreContiguousAndOrdered() {
+        for (int index = 1; index < 400; index++) {
+            long previousUpper = LatencyHistogram.upperBound(index - 1);
+            assertEquals(LatencyHistogram.indexFor(previousUpper + 1), index);
+            assertEquals(LatencyHistogram.indexFor(LatencyHistogram.upperBound(index)), index);
+        }
+    }
+
+    @Test
+    public void percentilesAndMerge() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        for (int i = 1; i <= 90; i++) {
+            first.record(5);
+        }
+        for (int i = 1; i <= 10; i++) {
+            second.record(1_000);
+        }
+
+        LatencyHistogram merged = new LatencyHistogram();
+        merged.addAll(first);
+        merged.addAll(second);
+
+        assertEquals(merged.count(), 100);
+        assertEquals(merged.sumMicros(), 90 * 5 + 10 * 1_000);
+        assertEquals(merged.percentileMicros(0.50), 5);
+        assertEquals(merged.percentileMicros(0.90), 5);
+        long p99 = merged.percentileMicros(0.99);
+        assertTrue(p99 >= 1_000 && p99 <= 1_000 + 1_000 / 8, "p99 " + p99);
+        assertEquals(new LatencyHistogram().percentileMicros(0.99), 0);
+    }
+
+    @Test
+    public void hugeAndNegativeValuesAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-3);
+        histogram.record(Long.MAX_VALUE / 2);
+        assertEquals(histogram.percentileMicros(0.0), 0);
+        assertTrue(histogram.percentileMicros(1.0) >= Long.MAX_VALUE / 2);
+    }
+}
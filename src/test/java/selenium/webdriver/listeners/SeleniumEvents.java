@@ -0,0 +1,114 @@
+package selenium.webdriver.listeners;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+/**
+ * 🛩️ SeleniumEvents — Java Flight Recorder events for Selenium steps
+ *
+ * A JFR recording of a slow test normally shows threads blocked in HTTP I/O and nothing
+ * about WHICH Selenium step was running. These events fill that gap; in JDK Mission Control
+ * they appear under "Selenium" with duration, locator, session and outcome.
+ *
+ *  - Command      — every WebDriver / WebElement call (via {@link JfrCommandListener}); only
+ *                   recorded when the suite runs with -Djfr.commands=true, which installs the
+ *                   listener — a plain -XX:StartFlightRecording run has no Command events
+ *  - Wait         — WebDriverWait / FluentWait / AdaptiveWait .until()
+ *  - DriverStart  — browser session creation
+ *  - Screenshot   — screenshot capture
+ *
+ * ⚡ When no recording is running, begin()/commit() are no-ops that the JIT removes.
+ *
+ * ✅ Record:  java -XX:StartFlightRecording=filename=run.jfr -Djfr.commands=true ...   (or -DargLine for surefire)
+ */
+public final class SeleniumEvents {
+
+    private SeleniumEvents() {
+    }
+
+    @Name("selenium.Command")
+    @Label("WebDriver Command")
+    @Category("Selenium")
+    @StackTrace(false)
+    public static class CommandEvent extends Event {
+        @Label("Command")
+        public String command;
+
+        @Label("Locator")
+        public String locator;
+
+        @Label("Session ID")
+        public String sessionId;
+
+        @Label("Outcome")
+        @Description("\"ok\" or the exception class name")
+        public String outcome;
+    }
+
+    @Name("selenium.Wait")
+    @Label("WebDriver Wait")
+    @Category("Selenium")
+    public static class WaitEvent extends Event {
+        @Label("Condition")
+        public String condition;
+
+        @Label("Outcome")
+        public String outcome;
+    }
+
+    @Name("selenium.DriverStart")
+    @Label("Driver Start")
+    @Category("Selenium")
+    public static class DriverStartEvent extends Event {
+        @Label("Browser")
+        public String browser;
+
+        @Label("Session ID")
+        public String sessionId;
+
+        @Label("Outcome")
+        public String outcome;
+    }
+
+    @Name("selenium.Screenshot")
+    @Label("Screenshot Capture")
+    @Category("Selenium")
+    @StackTrace(false)
+    public static class ScreenshotEvent extends Event {
+        @Label("Kind")
+        public String kind;
+
+        @Label("Session ID")
+        public String sessionId;
+
+        @Label("Outcome")
+        public String outcome;
+    }
+
+    /**
+     * Runs a wait (e.g. {@code () -> wait.until(...)}) inside a Wait event.
+     */
+    public static <T> T recordWait(String condition, Supplier<T> wait) {
+        WaitEvent event = new WaitEvent();
+        event.begin();
+        String outcome = "ok";
+        try {
+            return wait.get();
+        } catch (RuntimeException e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            if (event.shouldCommit()) {
+                event.condition = condition;
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package selenium.webdriver.printing;
+
+import org.openqa.selenium.PrintsPage;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.print.PageMargin;
+import org.openqa.selenium.print.PageSize;
+import org.openqa.selenium.print.PrintOptions;
+import selenium.webdriver.utils.DriverPool;
+import selenium.webdriver.utils.WebDriverUtil;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 🖨️ PdfExporter — print pages to PDF without holding the whole document in memory
+ *
+ * PrintsPage.print() returns a Pdf whose content is ONE base64 String — for a multi-page
+ * report that is tens of MB on the heap (plus the decoded copy) per call.
+ *
+ * On Chromium the exporter asks CDP for the PDF as a stream
+ * (Page.printToPDF with transferMode=ReturnAsStream) and pulls it in 1 MB chunks with IO.read,
+ * decoding each chunk straight into the target file / OutputStream.
+ * Other browsers fall back to PrintsPage.print(), decoded through a streaming base64 decoder
+ * (no second full-size byte[] copy).
+ *
+ * ✅ Example:
+ *     PdfExporter.Result result = PdfExporter.export(driver, new PrintOptions(), Path.of("report.pdf"));
+ *     System.out.println(result.pages() + " pages, " + result.bytes() + " bytes");
+ *
+ * ⚠️ Like PrintsPage, printing needs a headless browser.
+ */
+public final class PdfExporter {
+
+    private static final int CHUNK_SIZE = 1024 * 1024;
+    private static final double CM_PER_INCH = 2.54;
+
+    private PdfExporter() {
+    }
+
+    /**
+     * Pages counted from the PDF's page objects (best effort) and bytes written.
+     */
+    public record Result(Path file, int pages, long bytes) {
+    }
+
+    public static Result export(WebDriver driver, PrintOptions options, Path target) {
+        try {
+            Path parent = target.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target))) {
+                Result streamed = export(driver, options, out);
+                return new Result(target, streamed.pages(), streamed.bytes());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write PDF " + target, e);
+        }
+    }
+
+    /**
+     * Streams the PDF of the current page into {@code out} (not closed).
+     */
+    public static Result export(WebDriver driver, PrintOptions options, OutputStream out) throws IOException {
+        PageCountingStream counting = new PageCountingStream(out);
+        driver = WebDriverUtil.unwrap(driver);
+        if (driver instanceof HasCdp cdp) {
+            streamViaCdp(cdp, options, counting);
+        } else if (driver instanceof PrintsPage printer) {
+            String base64 = printer.print(options).getContent();
+            try (InputStream decoded = Base64.getMimeDecoder().wrap(new CharSequenceInputStream(base64))) {
+                decoded.transferTo(counting);
+            }
+        } else {
+            throw new WebDriverException("Driver cannot print pages: " + driver.getClass().getName());
+        }
+        counting.flush();
+        return new Result(null, counting.pages, counting.bytes);
+    }
+
+    /**
+     * Prints many URLs concurrently, each on a session leased from the {@link DriverPool}.
+     * Files are named {@code <index>.pdf} in the given directory.
+     */
+    public static List<Result> exportAll(List<String> urls, PrintOptions options, Path directory,
+                                         String browserName, int parallelism) {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<CompletableFuture<Result>> futures = new ArrayList<>();
+            for (int i = 0; i < urls.size(); i++) {
+                String url = urls.get(i);
+                Path target = directory.resolve(i + ".pdf");
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    WebDriver driver = DriverPool.getInstance().lease(browserName);
+                    try {
+                        driver.get(url);
+                        return export(driver, options, target);
+                    } finally {
+                        DriverPool.getInstance().release(driver);
+                    }
+                }, executor));
+            }
+            return futures.stream().map(CompletableFuture::join).toList();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void streamViaCdp(HasCdp cdp, PrintOptions options, OutputStream out) throws IOException {
+        Map<String, Object> printed = cdp.executeCdpCommand("Page.printToPDF", toCdpParams(options));
+        String handle = (String) printed.get("stream");
+        try {
+            while (true) {
+                Map<String, Object> chunk = cdp.executeCdpCommand("IO.read", Map.of("handle", handle, "size", CHUNK_SIZE));
+                String data = (String) chunk.get("data");
+                if (Boolean.TRUE.equals(chunk.get("base64Encoded"))) {
+                    out.write(Base64.getDecoder().decode(data));
+                } else {
+                    out.write(data.getBytes(StandardCharsets.ISO_8859_1));
+                }
+                if (Boolean.TRUE.equals(chunk.get("eof"))) {
+                    break;
+                }
+            }
+        } finally {
+            cdp.executeCdpCommand("IO.close", Map.of("handle", handle));
+        }
+    }
+
+    /**
+     * Maps W3C print options (centimetres) onto Page.printToPDF (inches).
+     */
+    private static Map<String, Object> toCdpParams(PrintOptions options) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("transferMode", "ReturnAsStream");
+        params.put("landscape", options.getOrientation() == PrintOptions.Orientation.LANDSCAPE);
+        params.put("printBackground", options.getBackground());
+        params.put("scale", options.getScale());
+        params.put("preferCSSPageSize", false);
+        PageSize size = options.getPageSize();
+        params.put("paperWidth", size.getWidth() / CM_PER_INCH);
+        params.put("paperHeight", size.getHeight() / CM_PER_INCH);
+        PageMargin margin = options.getPageMargin();
+        params.put("marginTop", margin.getTop() / CM_PER_INCH);
+        params.put("marginBottom", margin.getBottom() / CM_PER_INCH);
+        params.put("marginLeft", margin.getLeft() / CM_PER_INCH);
+        params.put("marginRight", margin.getRight() / CM_PER_INCH);
+        String[] ranges = options.getPageRanges();
+        if (ranges != null && ranges.length > 0) {
+            params.put("pageRanges", String.join(",", ranges));
+        }
+        return params;
+    }
+
+    /**
+     * Counts bytes and "/Type /Page" objects as the PDF streams through.
+     * The tail of each chunk is kept so a marker split across two chunks is still seen.
+     */
+    private static final class PageCountingStream extends FilterOutputStream {
+        private static final Pattern PAGE_OBJECT = Pattern.compile("/Type\\s*/Page[^a-zA-Z]");
+        private static final int TAIL = 32;
+
+        private String tail = "";
+        private int pages;
+        private long bytes;
+
+        private PageCountingStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            out.write(buffer, offset, length);
+            bytes += length;
+            String text = tail + new String(buffer, offset, length, StandardCharsets.ISO_8859_1);
+            Matcher matcher = PAGE_OBJECT.matcher(text);
+            while (matcher.find()) {
+                // Matches ending inside the old tail were counted with the previous chunk
+                if (matcher.end() > tail.length()) {
+                    pages++;
+                }
+            }
+            tail = text.substring(Math.max(0, text.length() - TAIL));
+        }
+    }
+
+    /**
+     * Reads a String's characters as bytes without copying it into a byte[].
+     */
+    private static final class CharSequenceInputStream extends InputStream {
+        private final CharSequence chars;
+        private int position;
+
+        private CharSequenceInputStream(CharSequence chars) {
+            this.chars = chars;
+        }
+
+        @Override
+        public int read() {
+            return position < chars.length() ? chars.charAt(position++) & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position >= chars.length()) {
+                return -1;
+            }
+            int count = Math.min(length, chars.length() - position);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = (byte) chars.charAt(position++);
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package selenium.webdriver.reporting;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 🖨️ ReportRenderer — HTML from the {@link StreamingReporter} store, one record at a time
+ *
+ * Reads {@code results.ndjson} as a stream (one test in memory at a time) and writes, in the same pass:
+ *  - {@code page-N.html}   — every test, report.pageSize rows per page
+ *  - {@code failures.html} — only failed tests, with message, stack and screenshots
+ *  - {@code index.html}    — totals and links, written last
+ * Screenshots are linked, never inlined, so pages stay small and load lazily.
+ *
+ * ✅ Re-render an existing store (e.g. after an aborted run):
+ *     java ... selenium.webdriver.reporting.ReportRenderer target/streaming-report
+ *
+ * 🔧 Configuration: -Dreport.pageSize (default: 500)
+ */
+public final class ReportRenderer {
+
+    private static final int PAGE_SIZE = Integer.getInteger("report.pageSize", 500);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String STYLE = """
+            <style>
+              body { font-family: sans-serif; margin: 2em; }
+              table { border-collapse: collapse; width: 100%; }
+              td, th { border-bottom: 1px solid #ddd; padding: 4px 8px; text-align: left; vertical-align: top; }
+              .PASS { color: #2e7d32; } .FAIL { color: #c62828; } .SKIP, .RETRIED { color: #9e9e9e; }
+              pre { font-size: 11px; margin: 4px 0; white-space: pre-wrap; }
+              img { max-width: 240px; border: 1px solid #ccc; }
+            </style>
+            """;
+
+    private ReportRenderer() {
+    }
+
+    public static void main(String[] args) {
+        Path dir = args.length > 0 ? Paths.get(args[0]) : StreamingReporter.DIR;
+        System.out.println("🗂️ Report: " + render(dir).toAbsolutePath());
+    }
+
+    /**
+     * Renders the store in {@code dir}.
+     *
+     * @return the index page
+     */
+    public static Path render(Path dir) {
+        Path store = dir.resolve(StreamingReporter.RESULTS);
+        long total = 0;
+        long[] byStatus = new long[Status.values().length];
+        long passedOnRetry = 0;
+        List<String> pages = new ArrayList<>();
+
+        try (BufferedWriter failures = page(dir.resolve("failures.html"), "Failures")) {
+            BufferedWriter current = null;
+            try (MappingIterator<JsonNode> records = Files.exists(store)
+                    ? MAPPER.readerFor(JsonNode.class).readValues(store.toFile())
+                    : MappingIterator.emptyIterator()) {
+                while (records.hasNextValue()) {
+                    JsonNode record = records.nextValue();
+                    if (total % PAGE_SIZE == 0) {
+                        close(current);
+                        String name = "page-" + (pages.size() + 1) + ".html";
+                        pages.add(name);
+                        current = page(dir.resolve(name), "Tests " + (total + 1) + "–" + (total + PAGE_SIZE));
+                    }
+                    total++;
+                    Status status = Status.of(record.path("status").asText());
+                    byStatus[status.ordinal()]++;
+                    if (record.path("passedOnRetry").asBoolean()) {
+                        passedOnRetry++;
+                    }
+                    row(current, record, status, false);
+                    if (status == Status.FAIL) {
+                        row(failures, record, status, true);
+                    }
+                }
+            } finally {
+                close(current);
+            }
+            failures.write("</table></body></html>\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not render report from " + store, e);
+        }
+
+        Path index = dir.resolve("index.html");
+        try (BufferedWriter out = Files.newBufferedWriter(index, StandardCharsets.UTF_8)) {
+            out.write("<!DOCTYPE html><html><head><meta charset=\"utf-8\"><title>Test report</title>" + STYLE + "</head><body>\n");
+            out.write("<h1>Test report</h1>\n<p>" + total + " results: ");
+            for (Status status : Status.values()) {
+                out.write("<span class=\"" + status + "\">" + byStatus[status.ordinal()] + " " + status.label + "</span> · ");
+            }
+            out.write(passedOnRetry + " passed on retry</p>\n");
+            out.write("<p><a href=\"failures.html\">Failures</a></p>\n<ul>\n");
+            for (int i = 0; i < pages.size(); i++) {
+                out.write("<li><a href=\"" + pages.get(i) + "\">Tests " + (i * (long) PAGE_SIZE + 1) + "–"
+                        + Math.min(total, (i + 1) * (long) PAGE_SIZE) + "</a></li>\n");
+            }
+            out.write("</ul></body></html>\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write " + index, e);
+        }
+        return index;
+    }
+
+    private static BufferedWriter page(Path file, String title) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        out.write("<!DOCTYPE html><html><head><meta charset=\"utf-8\"><title>" + escape(title) + "</title>"
+                + STYLE + "</head><body>\n<p><a href=\"index.html\">← Index</a></p><h2>" + escape(title) + "</h2>\n");
+        out.write("<table><tr><th>Test</th><th>Status</th><th>ms</th><th>Details</th></tr>\n");
+        return out;
+    }
+
+    private static void close(Writer page) throws IOException {
+        if (page != null) {
+            page.write("</table></body></html>\n");
+            page.close();
+        }
+    }
+
+    private static void row(Writer out, JsonNode record, Status status, boolean details) throws IOException {
+        out.write("<tr><td>" + escape(record.path("test").asText()));
+        if (record.has("parameters")) {
+            out.write("<br><small>" + escape(record.path("parameters").asText()) + "</small>");
+        }
+        out.write("</td><td class=\"" + status + "\">" + status.label
+                + (record.path("passedOnRetry").asBoolean() ? " (on retry)" : "") + "</td>");
+        out.write("<td>" + record.path("millis").asLong() + "</td><td>");
+        if (record.has("error")) {
+            out.write(escape(record.path("error").asText()) + ": " + escape(record.path("message").asText()));
+            if (details) {
+                out.write("<pre>");
+                for (JsonNode frame : record.path("stack")) {
+                    out.write("  at " + escape(frame.asText()) + "\n");
+                }
+                out.write("</pre>");
+            }
+        }
+        for (JsonNode screenshot : record.path("screenshots")) {
+            String href = escape(screenshot.asText());
+            out.write(details
+                    ? "<a href=\"" + href + "\"><img loading=\"lazy\" src=\"" + href + "\"></a>"
+                    : " <a href=\"" + href + "\">📸</a>");
+        }
+        out.write("</td></tr>\n");
+    }
+
+    private static String escape(String text) {
+        StringBuilder out = new StringBuilder(text.length() + 16);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                case '"' -> out.append("&quot;");
+                default -> out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    private enum Status {
+        PASS("passed"), FAIL("failed"), SKIP("skipped"), RETRIED("retried");
+
+        private final String label;
+
+        Status(String label) {
+            this.label = label;
+        }
+
+        private static Status of(String name) {
+            try {
+                return valueOf(name);
+            } catch (IllegalArgumentException e) {
+                return SKIP;
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package selenium.webdriver.reporting;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import selenium.webdriver.runner.DurationHistory;
+import selenium.webdriver.runner.RerunScheduler;
+import selenium.webdriver.screenshots.ScreenshotOptions;
+import selenium.webdriver.screenshots.ScreenshotService;
+import selenium.webdriver.utils.WebDriverUtil;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 🗂️ StreamingReporter — a test report that never holds the run in memory
+ *
+ * ExtentReports builds the whole report model in memory and writes it at the end, with every
+ * screenshot inlined as base64 — for a 10k-test nightly that is gigabytes of heap and a long final
+ * flush. This listener keeps memory flat instead:
+ *
+ * ✅ Each finished test is appended at once as one JSON line to {@code <dir>/results.ndjson}
+ *    (status, duration, error, retry flag, screenshot references) — a crashed run still has its results
+ * ✅ Screenshots are stored as files named by their SHA-256 ({@code <dir>/screenshots/<hash>.png}):
+ *    the same error page captured by 500 failing tests is one file, referenced 500 times
+ * ✅ On failure the thread's driver is captured automatically; tests can add more with attachScreenshot()
+ * ✅ At suite end {@link ReportRenderer} streams the store into paged HTML (index, failures, pages)
+ *
+ * 🔧 Configuration (system properties):
+ *  - report.dir         — report folder (default: target/streaming-report)
+ *  - report.screenshots — capture a screenshot on failure (default: true)
+ *  - report.stackLines  — stack frames kept per error (default: 15)
+ */
+public class StreamingReporter implements ITestListener, ISuiteListener {
+
+    static final Path DIR = Paths.get(System.getProperty("report.dir", "target/streaming-report"));
+    static final String RESULTS = "results.ndjson";
+    static final String SCREENSHOTS = "screenshots";
+
+    private static final boolean SCREENSHOT_ON_FAILURE =
+            Boolean.parseBoolean(System.getProperty("report.screenshots", "true"));
+    private static final int STACK_LINES = Integer.getInteger("report.stackLines", 15);
+
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final ThreadLocal<List<String>> ATTACHMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    private static BufferedWriter results;
+
+    /**
+     * Adds a screenshot of the driver's current page to the running test's record.
+     */
+    public static void attachScreenshot(WebDriver driver) {
+        String base64 = ScreenshotService.captureBase64(driver, ScreenshotOptions.png());
+        attachScreenshot(Base64.getDecoder().decode(base64));
+    }
+
+    /**
+     * Adds a PNG image to the running test's record (stored once per distinct content).
+     */
+    public static void attachScreenshot(byte[] png) {
+        ATTACHMENTS.get().add(storeScreenshot(png));
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        ATTACHMENTS.get().clear();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        append(result, "PASS");
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        // Runs before @AfterMethod, so the thread still holds the failed test's session
+        WebDriver driver = WebDriverUtil.currentDriver();
+        if (SCREENSHOT_ON_FAILURE && driver != null) {
+            try {
+                attachScreenshot(driver);
+            } catch (WebDriverException e) {
+                // Session already gone — the record is still worth writing
+            }
+        }
+        append(result, "FAIL");
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        append(result, result.wasRetried() ? "RETRIED" : "SKIP");
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        synchronized (StreamingReporter.class) {
+            if (results == null) {
+                return;
+            }
+            try {
+                results.flush();
+            } catch (IOException e) {
+                System.out.println("⚠️ Could not flush " + DIR.resolve(RESULTS) + ": " + e.getMessage());
+            }
+        }
+        Path index = ReportRenderer.render(DIR);
+        System.out.println("🗂️ Report: " + index.toAbsolutePath());
+    }
+
+    private static void append(ITestResult result, String status) {
+        List<String> screenshots = ATTACHMENTS.get();
+        String line = toJson(result, status, screenshots);
+        screenshots.clear();
+        synchronized (StreamingReporter.class) {
+            try {
+                if (results == null) {
+                    Files.createDirectories(DIR);
+                    results = Files.newBufferedWriter(DIR.resolve(RESULTS), StandardCharsets.UTF_8);
+                }
+                results.write(line);
+                results.newLine();
+                // Flushed per record: the store is complete up to the last finished test, even after a crash
+                results.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not append to " + DIR.resolve(RESULTS), e);
+            }
+        }
+    }
+
+    private static String toJson(ITestResult result, String status, List<String> screenshots) {
+        StringWriter out = new StringWriter(256);
+        try (JsonGenerator json = JSON.createGenerator(out)) {
+            json.writeStartObject();
+            json.writeStringField("test", DurationHistory.key(result.getMethod()));
+            Object[] parameters = result.getParameters();
+            if (parameters != null && parameters.length > 0) {
+                json.writeStringField("parameters", Arrays.toString(parameters));
+            }
+            json.writeStringField("status", status);
+            json.writeNumberField("start", result.getStartMillis());
+            json.writeNumberField("millis", result.getEndMillis() - result.getStartMillis());
+            json.writeStringField("thread", Thread.currentThread().getName());
+            if ("PASS".equals(status) && RerunScheduler.reruns(result) > 0) {
+                json.writeBooleanField("passedOnRetry", true);
+            }
+            Throwable error = result.getThrowable();
+            if (error != null && !"PASS".equals(status)) {
+                json.writeStringField("error", error.getClass().getName());
+                json.writeStringField("message", String.valueOf(error.getMessage()));
+                json.writeArrayFieldStart("stack");
+                StackTraceElement[] stack = error.getStackTrace();
+                for (int i = 0; i < Math.min(STACK_LINES, stack.length); i++) {
+                    json.writeString(stack[i].toString());
+                }
+                json.writeEndArray();
+            }
+            if (!screenshots.isEmpty()) {
+                json.writeArrayFieldStart("screenshots");
+                for (String screenshot : screenshots) {
+                    json.writeString(screenshot);
+                }
+                json.writeEndArray();
+            }
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Content-addressed: the file name is the image hash, so a repeat is a no-op — and no in-memory
+     * index of seen hashes is needed.
+     *
+     * @return the path relative to the report folder
+     */
+    private static String storeScreenshot(byte[] png) {
+        String name = SCREENSHOTS + "/" + sha256(png) + ".png";
+        Path file = DIR.resolve(name);
+        try {
+            if (!Files.exists(file)) {
+                Files.createDirectories(file.getParent());
+                Path tmp = Files.createTempFile(file.getParent(), ".shot-", ".tmp");
+                Files.write(tmp, png);
+                try {
+                    // Atomic publish — a concurrent writer of the same image loses the race harmlessly
+                    Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    Files.deleteIfExists(tmp);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store screenshot " + file, e);
+        }
+        return name;
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
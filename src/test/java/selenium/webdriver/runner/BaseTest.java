@@ -0,0 +1,26 @@
+package selenium.webdriver.runner;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.AfterMethod;
+import selenium.webdriver.utils.WebDriverUtil;
+
+/**
+ * 🧵 BaseTest — one driver per test thread
+ *
+ * Extend this instead of creating a driver inline. {@link #driver()} returns the
+ * session confined to the current thread (leased from the pool), and it is handed
+ * back after every test method, so tests can safely run with parallel="methods".
+ *
+ * 🔧 Browser: -Dbrowser=chrome|firefox|edge (default: chrome)
+ */
+public abstract class BaseTest {
+
+    protected WebDriver driver() {
+        return WebDriverUtil.getDriver(System.getProperty("browser", "chrome"));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void releaseDriver() {
+        WebDriverUtil.releaseDriver();
+    }
+}
@@ -0,0 +1,123 @@
+package selenium.webdriver.runner;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * ⏱️ DurationHistory — remembers how long each test method took
+ *
+ * Durations are stored as {@code class#method=millis} in a properties file
+ * (default: test-durations.properties, override with -Dtest.durations.file).
+ * New runs are blended with the stored value (exponential moving average) so one
+ * slow outlier does not reshuffle the whole schedule.
+ *
+ * Used by {@link DurationOrderingInterceptor} to start the longest tests first.
+ */
+public class DurationHistory implements ITestListener, ISuiteListener {
+
+    private static final Path FILE = Paths.get(System.getProperty("test.durations.file", "test-durations.properties"));
+    private static final double NEW_RUN_WEIGHT = 0.3;
+
+    private static final Map<String, Long> DURATIONS = load();
+
+    public static String key(ITestNGMethod method) {
+        return method.getRealClass().getName() + "#" + method.getMethodName();
+    }
+
+    /**
+     * Recorded duration for the method, or the median of all known durations if it never ran.
+     */
+    public static long expectedMillis(ITestNGMethod method) {
+        Long known = DURATIONS.get(key(method));
+        return known != null ? known : medianMillis();
+    }
+
+    /**
+     * Same lookup for a whole scheduling pass: the median is computed once, not per method.
+     */
+    public static ToLongFunction<ITestNGMethod> estimator() {
+        long median = medianMillis();
+        return method -> {
+            Long known = DURATIONS.get(key(method));
+            return known != null ? known : median;
+        };
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        save();
+    }
+
+    private static void record(ITestResult result) {
+        long elapsed = result.getEndMillis() - result.getStartMillis();
+        DURATIONS.merge(key(result.getMethod()), elapsed,
+                (old, latest) -> Math.round(old * (1 - NEW_RUN_WEIGHT) + latest * NEW_RUN_WEIGHT));
+    }
+
+    private static long medianMillis() {
+        if (DURATIONS.isEmpty()) {
+            return 0;
+        }
+        List<Long> values = new ArrayList<>(DURATIONS.values());
+        Collections.sort(values);
+        return values.get(values.size() / 2);
+    }
+
+    private static Map<String, Long> load() {
+        Map<String, Long> durations = new ConcurrentHashMap<>();
+        if (Files.exists(FILE)) {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(FILE)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                System.out.println("⚠️ Could not read " + FILE + ": " + e.getMessage());
+            }
+            properties.forEach((k, v) -> {
+                try {
+                    durations.put((String) k, Long.parseLong(((String) v).trim()));
+                } catch (NumberFormatException e) {
+                    // A hand-edited or truncated entry must not take the whole listener down
+                    System.out.println("⚠️ Ignoring bad duration in " + FILE + ": " + k + "=" + v);
+                }
+            });
+        }
+        return durations;
+    }
+
+    private static synchronized void save() {
+        Properties properties = new Properties();
+        DURATIONS.forEach((k, v) -> properties.setProperty(k, String.valueOf(v)));
+        try (Writer writer = Files.newBufferedWriter(FILE)) {
+            properties.store(writer, "Historical test durations in ms (used for ordering and sharding)");
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write " + FILE + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package selenium.webdriver.runner;
+
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * 📊 DurationOrderingInterceptor — longest tests first, balanced shards
+ *
+ * With a fixed pool of test threads, starting the longest tests first
+ * (longest-processing-time scheduling) lets the short ones fill the gaps at the end,
+ * so every thread finishes at about the same time.
+ *
+ * The same idea splits the suite across forks / CI agents: each method goes to the
+ * shard with the smallest total expected time so far.
+ *
+ * 🔧 Sharding (system properties):
+ *  - shard.count  — number of shards (default: 1, no sharding)
+ *  - shard.index  — zero-based shard to run in this JVM
+ */
+public class DurationOrderingInterceptor implements IMethodInterceptor {
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        // Look every method up once — the median fallback for unknown methods is not free
+        ToLongFunction<ITestNGMethod> estimator = DurationHistory.estimator();
+        Map<IMethodInstance, Long> expected = new IdentityHashMap<>();
+        for (IMethodInstance method : methods) {
+            expected.put(method, estimator.applyAsLong(method.getMethod()));
+        }
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        ordered.sort(Comparator.comparingLong((IMethodInstance m) -> expected.get(m)).reversed());
+
+        int shardCount = Integer.getInteger("shard.count", 1);
+        if (shardCount <= 1) {
+            return ordered;
+        }
+        int shardIndex = Integer.getInteger("shard.index", 0);
+        checkShard(shardIndex, shardCount);
+        return shards(ordered, expected::get, shardCount).get(shardIndex);
+    }
+
+    static void checkShard(int shardIndex, int shardCount) {
+        if (shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException(
+                    "shard.index must be between 0 and " + (shardCount - 1) + ", got " + shardIndex);
+        }
+    }
+
+    /**
+     * Greedy bin packing: items must already be sorted longest first.
+     */
+    static <T> List<List<T>> shards(List<T> longestFirst, ToLongFunction<T> expectedMillis, int shardCount) {
+        List<List<T>> shards = new ArrayList<>();
+        long[] totals = new long[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+        for (T item : longestFirst) {
+            int lightest = 0;
+            for (int i = 1; i < shardCount; i++) {
+                if (totals[i] < totals[lightest]) {
+                    lightest = i;
+                }
+            }
+            shards.get(lightest).add(item);
+            totals[lightest] += expectedMillis.applyAsLong(item);
+        }
+        return shards;
+    }
+}
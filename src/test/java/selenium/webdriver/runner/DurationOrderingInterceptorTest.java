@@ -0,0 +1,36 @@
+package selenium.webdriver.runner;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+public class DurationOrderingInterceptorTest {
+
+    @Test
+    public void longestFirstItemsAreSpreadOverTheLightestShard() {
+        Map<String, Long> millis = Map.of("a", 90L, "b", 60L, "c", 50L, "d", 40L, "e", 10L);
+        List<List<String>> shards = DurationOrderingInterceptor.shards(
+                List.of("a", "b", "c", "d", "e"), millis::get, 2);
+
+        assertEquals(shards, List.of(List.of("a", "d"), List.of("b", "c", "e")));
+    }
+
+    @Test
+    public void moreShardsThanItemsLeavesEmptyShards() {
+        List<List<String>> shards = DurationOrderingInterceptor.shards(List.of("a"), item -> 5L, 3);
+
+        assertEquals(shards, List.of(List.of("a"), List.of(), List.of()));
+    }
+
+    @Test
+    public void shardIndexMustBeWithinShardCount() {
+        DurationOrderingInterceptor.checkShard(0, 2);
+        DurationOrderingInterceptor.checkShard(1, 2);
+        assertThrows(IllegalArgumentException.class, () -> DurationOrderingInterceptor.checkShard(2, 2));
+        assertThrows(IllegalArgumentException.class, () -> DurationOrderingInterceptor.checkShard(-1, 2));
+    }
+}
@@ -0,0 +1,104 @@
+package selenium.webdriver.runner;
+
+import com.sun.management.OperatingSystemMXBean;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+import selenium.webdriver.utils.DriverPool;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * ⚙️ ParallelSuiteListener — sizes TestNG concurrency to the machine
+ *
+ * Every parallel test holds its own browser, and each Chrome costs roughly 300 MB.
+ * Running more threads than cores (CPU-bound) or than free memory allows (swap)
+ * makes the suite slower, not faster, so the thread count is:
+ *
+ *     min(available cores, available physical memory / memory per browser)
+ *
+ * "Available" is MemAvailable from /proc/meminfo on Linux: free memory plus the page cache the
+ * kernel can reclaim. Plain free memory is often tiny on a busy box and would size the suite to 1.
+ *
+ * 🔧 Overrides (system properties):
+ *  - parallel.threads          — fixed thread count, skips the calculation
+ *  - parallel.browserMemoryMb  — memory budget per browser session (default: 300)
+ *  - parallel.mode             — TestNG parallel mode (default: methods)
+ *  - driver.pool.prewarm       — launch one browser per thread before the suite starts (default: false;
+ *                                turn it on for browser suites — unit-test-only runs need no browser)
+ */
+public class ParallelSuiteListener implements IAlterSuiteListener {
+
+    private static final long DEFAULT_BROWSER_MEMORY_MB = 300;
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        int threads = Integer.getInteger("parallel.threads", recommendedThreadCount());
+        XmlSuite.ParallelMode mode = XmlSuite.ParallelMode.getValidParallel(
+                System.getProperty("parallel.mode", XmlSuite.ParallelMode.METHODS.toString()));
+
+        for (XmlSuite suite : suites) {
+            suite.setParallel(mode);
+            suite.setThreadCount(threads);
+            suite.setDataProviderThreadCount(threads);
+            // Keep the pool in step with the number of test threads
+            System.setProperty("driver.pool.size", String.valueOf(threads));
+        }
+        System.out.println("⚙️ Running suites with parallel=" + mode + ", threads=" + threads);
+
+        if (Boolean.parseBoolean(System.getProperty("driver.pool.prewarm", "false"))) {
+            prewarm(threads);
+        }
+    }
+
+    /**
+     * Starts the sessions now, in parallel, instead of one by one as the first tests ask for them.
+     * Runs after driver.pool.size is set, so the pool is created with the right size.
+     */
+    private static void prewarm(int threads) {
+        String browser = System.getProperty("browser", "chrome");
+        try {
+            DriverPool.getInstance().prewarm(browser, threads);
+        } catch (RuntimeException e) {
+            // Not fatal: tests launch their own sessions (and report the real error) on first lease
+            System.out.println("⚠️ Could not pre-warm " + browser + " sessions: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Number of concurrent browser sessions this machine can sustain.
+     */
+    public static int recommendedThreadCount() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        long perBrowserBytes = Long.getLong("parallel.browserMemoryMb", DEFAULT_BROWSER_MEMORY_MB) * 1024 * 1024;
+
+        long byMemory = Math.max(1, availableMemoryBytes() / perBrowserBytes);
+        return (int) Math.max(1, Math.min(cores, byMemory));
+    }
+
+    static long availableMemoryBytes() {
+        Path meminfo = Paths.get("/proc/meminfo");
+        if (Files.isReadable(meminfo)) {
+            try (Stream<String> lines = Files.lines(meminfo)) {
+                Optional<Long> kb = lines.filter(line -> line.startsWith("MemAvailable:"))
+                        .map(line -> Long.parseLong(line.replaceAll("[^0-9]", "")))
+                        .findFirst();
+                if (kb.isPresent()) {
+                    return kb.get() * 1024;
+                }
+            } catch (IOException | NumberFormatException e) {
+                // Fall through to the JVM's view
+            }
+        }
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof OperatingSystemMXBean os) {
+            return os.getFreeMemorySize();
+        }
+        return Long.MAX_VALUE;
+    }
+}
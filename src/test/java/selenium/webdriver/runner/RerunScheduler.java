@@ -0,0 +1,214 @@
+package selenium.webdriver.runner;
+
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.testng.IAnnotationTransformer;
+import org.testng.IRetryAnalyzer;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 🔂 RerunScheduler — rerun infrastructure failures right away, in the same JVM
+ *
+ * Re-running a whole surefire invocation for one flaky test pays JVM start, glue scanning and
+ * browser launches again. This listener installs a retry analyzer on every test method (Cucumber
+ * scenarios run through cucumber-testng are TestNG methods too), so a failed test is re-executed
+ * immediately — on a warm session leased from the {@link selenium.webdriver.utils.DriverPool}, since
+ * BaseTest hands the failed test's session back (or the pool quits it if it is broken).
+ *
+ * Only INFRASTRUCTURE failures are rerun:
+ *  ✅ session lost or not created, browser unreachable, connection errors (I/O anywhere in the cause chain)
+ * Assertion failures, timeouts and everything else are real results and are reported as they are;
+ * element-level flakiness (stale element, click intercepted, ...) is StepRetry's job, inside the step.
+ *
+ * Reruns share one time budget for the whole run; a rerun is only started while the expected
+ * duration of the test (from DurationHistory) still fits. Tests that pass on a rerun are marked
+ * (result attribute {@value #PASSED_ON_RETRY}, a line in the TestNG report) and listed in
+ * {@code rerun.report}, so flakiness stays visible.
+ *
+ * 🔧 Configuration (system properties):
+ *  - rerun.max    — reruns per test (default: 1, 0 disables reruns)
+ *  - rerun.budget — seconds all reruns together may take (default: 300)
+ *  - rerun.report — report file (default: target/reruns.txt)
+ */
+public class RerunScheduler implements IAnnotationTransformer, ITestListener, ISuiteListener {
+
+    public static final String PASSED_ON_RETRY = "rerun.passedOnRetry";
+
+    private static final int MAX_RERUNS = Integer.getInteger("rerun.max", 1);
+    private static final Duration BUDGET = Duration.ofSeconds(Integer.getInteger("rerun.budget", 300));
+    private static final Path REPORT = Paths.get(System.getProperty("rerun.report", "target/reruns.txt"));
+
+    // What @Test(retryAnalyzer) holds when nobody set one — read from the annotation, not TestNG internals
+    private static final Object DEFAULT_ANALYZER = defaultAnalyzer();
+
+    private static final AtomicLong SPENT_MILLIS = new AtomicLong();
+    // test → outcome line, sorted so the report is stable between runs
+    private static final Map<String, String> OUTCOMES = new ConcurrentSkipListMap<>();
+
+    public enum FailureClass {
+        INFRASTRUCTURE, TEST
+    }
+
+    /**
+     * Infrastructure failures are worth a rerun; assertion failures, timeouts and unknown exceptions
+     * are not — a wait that gave up or an element that never appeared is what the test is checking.
+     */
+    public static FailureClass classify(Throwable failure) {
+        if (failure == null || failure instanceof AssertionError) {
+            return FailureClass.TEST;
+        }
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof NoSuchSessionException
+                    || cause instanceof SessionNotCreatedException
+                    || cause instanceof UnreachableBrowserException
+                    || cause instanceof IOException
+                    || cause instanceof UncheckedIOException) {
+                return FailureClass.INFRASTRUCTURE;
+            }
+        }
+        return FailureClass.TEST;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        // Leave explicitly configured analyzers alone
+        Class<? extends IRetryAnalyzer> configured = annotation.getRetryAnalyzerClass();
+        if (configured == null || configured == DEFAULT_ANALYZER) {
+            annotation.setRetryAnalyzer(Analyzer.class);
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        Analyzer analyzer = analyzerOf(result);
+        if (analyzer != null && analyzer.reruns > 0) {
+            charge(result);
+            result.setAttribute(PASSED_ON_RETRY, true);
+            Reporter.log("🔂 Passed on rerun " + analyzer.reruns + " after: " + analyzer.lastFailure);
+            OUTCOMES.put(name(result), "PASSED_ON_RETRY\t" + analyzer.reruns + "\t" + analyzer.lastFailure);
+        }
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        Analyzer analyzer = analyzerOf(result);
+        if (analyzer != null && analyzer.reruns > 0) {
+            charge(result);
+            OUTCOMES.put(name(result), "FAILED_AFTER_RETRY\t" + analyzer.reruns + "\t" + describe(result.getThrowable()));
+        }
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        // A failed attempt that is being rerun is reported by TestNG as skipped + wasRetried()
+        Analyzer analyzer = analyzerOf(result);
+        if (result.wasRetried() && analyzer != null && analyzer.reruns > 1) {
+            charge(result);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (OUTCOMES.isEmpty()) {
+            return;
+        }
+        List<String> lines = new ArrayList<>();
+        OUTCOMES.forEach((test, outcome) -> lines.add(test + "\t" + outcome));
+        long passed = OUTCOMES.values().stream().filter(o -> o.startsWith("PASSED_ON_RETRY")).count();
+        System.out.printf("🔂 Reruns: %d test(s) rerun, %d passed on retry, %d s of %d s budget used (%s)%n",
+                OUTCOMES.size(), passed, SPENT_MILLIS.get() / 1000, BUDGET.toSeconds(), REPORT);
+        try {
+            Files.createDirectories(REPORT.toAbsolutePath().getParent());
+            Files.write(REPORT, lines);
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write " + REPORT + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * How often this test has been rerun so far — usable from other listeners whatever their order.
+     */
+    public static int reruns(ITestResult result) {
+        Analyzer analyzer = analyzerOf(result);
+        return analyzer != null ? analyzer.reruns : 0;
+    }
+
+    private static Object defaultAnalyzer() {
+        try {
+            return Test.class.getMethod("retryAnalyzer").getDefaultValue();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("@Test has no retryAnalyzer attribute", e);
+        }
+    }
+
+    private static void charge(ITestResult result) {
+        SPENT_MILLIS.addAndGet(Math.max(0, result.getEndMillis() - result.getStartMillis()));
+    }
+
+    private static Analyzer analyzerOf(ITestResult result) {
+        return result.getMethod().getRetryAnalyzer(result) instanceof Analyzer analyzer ? analyzer : null;
+    }
+
+    private static String name(ITestResult result) {
+        Object[] parameters = result.getParameters();
+        return DurationHistory.key(result.getMethod())
+                + (parameters == null || parameters.length == 0 ? "" : Arrays.toString(parameters));
+    }
+
+    private static String describe(Throwable failure) {
+        if (failure == null) {
+            return "unknown";
+        }
+        String message = String.valueOf(failure.getMessage()).lines().findFirst().orElse("");
+        return failure.getClass().getSimpleName() + ": " + message;
+    }
+
+    /**
+     * Installed on every test method by the transformer; TestNG keeps one instance per method
+     * (per parameter set with data providers).
+     */
+    public static class Analyzer implements IRetryAnalyzer {
+
+        private volatile int reruns;
+        private volatile String lastFailure;
+
+        @Override
+        public boolean retry(ITestResult result) {
+            if (reruns >= MAX_RERUNS || classify(result.getThrowable()) != FailureClass.INFRASTRUCTURE) {
+                return false;
+            }
+            long expected = Math.max(result.getEndMillis() - result.getStartMillis(),
+                    DurationHistory.expectedMillis(result.getMethod()));
+            if (SPENT_MILLIS.get() + expected > BUDGET.toMillis()) {
+                System.out.println("⏳ Rerun budget spent — not rerunning " + name(result));
+                return false;
+            }
+            reruns++;
+            lastFailure = describe(result.getThrowable());
+            return true;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package selenium.webdriver.runner;
+
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.net.ConnectException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+
+public class RerunSchedulerTest {
+
+    private static final RerunScheduler.FailureClass INFRASTRUCTURE = RerunScheduler.FailureClass.INFRASTRUCTURE;
+    private static final RerunScheduler.FailureClass TEST = RerunScheduler.FailureClass.TEST;
+
+    @Test
+    public void sessionAndTransportFailuresAreInfrastructure() {
+        assertEquals(RerunScheduler.classify(new NoSuchSessionException("gone")), INFRASTRUCTURE);
+        assertEquals(RerunScheduler.classify(new SessionNotCreatedException("no slot")), INFRASTRUCTURE);
+        assertEquals(RerunScheduler.classify(new UnreachableBrowserException("down")), INFRASTRUCTURE);
+        assertEquals(RerunScheduler.classify(new UncheckedIOException(new IOException("reset"))), INFRASTRUCTURE);
+    }
+
+    @Test
+    public void causeChainIsSearched() {
+        WebDriverException wrapped = new WebDriverException("command failed", new ConnectException("refused"));
+        assertEquals(RerunScheduler.classify(wrapped), INFRASTRUCTURE);
+        assertEquals(RerunScheduler.classify(new RuntimeException(new NoSuchSessionException("gone"))), INFRASTRUCTURE);
+    }
+
+    @Test
+    public void timeoutsAndElementErrorsAreTestFailures() {
+        assertEquals(RerunScheduler.classify(new TimeoutException("wait gave up")), TEST);
+        assertEquals(RerunScheduler.classify(new NoSuchElementException("missing")), TEST);
+        assertEquals(RerunScheduler.classify(new ElementNotInteractableException("hidden")), TEST);
+        assertEquals(RerunScheduler.classify(new StaleElementReferenceException("stale")), TEST);
+    }
+
+    @Test
+    public void assertionsAndUnknownErrorsAreTestFailures() {
+        assertEquals(RerunScheduler.classify(new AssertionError("expected 2", new IOException("ignored"))), TEST);
+        assertEquals(RerunScheduler.classify(new IllegalStateException("bug")), TEST);
+        assertEquals(RerunScheduler.classify(null), TEST);
+    }
+
+    @Test
+    public void analyzerIsInstalledOnlyWhereNoneIsConfigured() throws NoSuchMethodException {
+        @SuppressWarnings("unchecked")
+        Class<? extends IRetryAnalyzer> defaultAnalyzer =
+                (Class<? extends IRetryAnalyzer>) Test.class.getMethod("retryAnalyzer").getDefaultValue();
+        RerunScheduler scheduler = new RerunScheduler();
+
+        ITestAnnotation plain = annotation(defaultAnalyzer);
+        scheduler.transform(plain, null, null, null);
+        assertEquals(plain.getRetryAnalyzerClass(), RerunScheduler.Analyzer.class);
+
+        ITestAnnotation unset = annotation(null);
+        scheduler.transform(unset, null, null, null);
+        assertEquals(unset.getRetryAnalyzerClass(), RerunScheduler.Analyzer.class);
+
+        ITestAnnotation custom = annotation(NeverRetry.class);
+        scheduler.transform(custom, null, null, null);
+        assertEquals(custom.getRetryAnalyzerClass(), NeverRetry.class);
+    }
+
+    /**
+     * An ITestAnnotation that only remembers its retry analyzer — TestNG's own implementation is internal.
+     */
+    private static ITestAnnotation annotation(Class<? extends IRetryAnalyzer> analyzer) {
+        Map<String, Object> state = new HashMap<>();
+        state.put("analyzer", analyzer);
+        return (ITestAnnotation) Proxy.newProxyInstance(ITestAnnotation.class.getClassLoader(),
+                new Class<?>[]{ITestAnnotation.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getRetryAnalyzerClass" -> state.get("analyzer");
+                    case "setRetryAnalyzer" -> state.put("analyzer", args[0]);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    public static class NeverRetry implements IRetryAnalyzer {
+        @Override
+        public boolean retry(ITestResult result) {
+            return false;
+        }
+    }
+}
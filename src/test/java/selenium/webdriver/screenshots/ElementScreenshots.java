@@ -0,0 +1,205 @@
+package selenium.webdriver.screenshots;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chromium.HasCdp;
+import selenium.webdriver.utils.JsLocators;
+import selenium.webdriver.utils.WebDriverUtil;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ✂️ ElementScreenshots — many element screenshots from ONE page capture
+ *
+ * element.getScreenshotAs() is a separate browser-side capture and base64 transfer per
+ * element. For 20–50 element shots per page that is 20–50 captures.
+ *
+ * Instead:
+ *  1. one executeScript call returns the bounding rect of every element (By or WebElement)
+ *  2. one capture of the region covering all of them (CDP clip on Chromium, viewport elsewhere)
+ *  3. every element image is cropped from that capture in the JVM, in parallel
+ *
+ * ✅ Example:
+ *     Map<String, Object> targets = new LinkedHashMap<>();
+ *     targets.put("logo", By.cssSelector("img[alt='Selenium Logo']"));
+ *     targets.put("search", searchBox);
+ *     Map<String, Path> files = ElementScreenshots.save(driver, targets, Path.of("target/elements"));
+ *
+ * ⚠️ On non-Chromium browsers only the visible viewport is captured, so elements must be
+ * scrolled into view; elements outside it raise an exception.
+ */
+public final class ElementScreenshots {
+
+    private static final String RECTS_SCRIPT = JsLocators.FIND_ALL_FUNCTION + """
+            return arguments[0].map(function (target) {
+              var el = Array.isArray(target) ? __findAll(target[0], target[1], document)[0] : target;
+              if (!el) return null;
+              var r = el.getBoundingClientRect();
+              return [r.left, r.top, r.width, r.height];
+            }).concat([[window.scrollX, window.scrollY, window.innerWidth, window.innerHeight]]);
+            """;
+
+    private ElementScreenshots() {
+    }
+
+    /**
+     * Crops every target (By or WebElement) out of a single capture, keyed like the input.
+     */
+    public static Map<String, BufferedImage> capture(WebDriver driver, Map<String, ?> targets) {
+        if (targets.isEmpty()) {
+            return Map.of();
+        }
+        List<String> names = new ArrayList<>(targets.keySet());
+        List<Rectangle> rects = pageRects(driver, names, targets);
+        boolean cdp = WebDriverUtil.unwrap(driver) instanceof HasCdp;
+
+        // 📐 Capture only the region that covers every element
+        Rectangle region = union(rects);
+        Rectangle viewport = rects.remove(rects.size() - 1);
+        if (!cdp) {
+            region = viewport;
+        }
+        BufferedImage page = decode(ScreenshotService.captureBase64(driver, cdp
+                ? ScreenshotOptions.png().withClip(region)
+                : ScreenshotOptions.png()));
+        // Device pixel ratio (HiDPI screens) = image pixels per CSS pixel
+        double scale = (double) page.getWidth() / region.getWidth();
+        Rectangle origin = region;
+
+        Map<String, BufferedImage> crops = new ConcurrentHashMap<>();
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            indexes.add(i);
+        }
+        indexes.parallelStream().forEach(i -> crops.put(names.get(i), crop(page, rects.get(i), origin, scale)));
+
+        Map<String, BufferedImage> ordered = new LinkedHashMap<>();
+        names.forEach(name -> ordered.put(name, crops.get(name)));
+        return ordered;
+    }
+
+    /**
+     * Same as {@link #capture}, then writes {@code <name>.png} files in parallel.
+     */
+    public static Map<String, Path> save(WebDriver driver, Map<String, ?> targets, Path directory) {
+        Map<String, BufferedImage> images = capture(driver, targets);
+        Map<String, Path> files = new ConcurrentHashMap<>();
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        images.entrySet().parallelStream().forEach(entry -> {
+            Path file = directory.resolve(entry.getKey() + ".png");
+            try {
+                ImageIO.write(entry.getValue(), "png", file.toFile());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write " + file, e);
+            }
+            files.put(entry.getKey(), file);
+        });
+        Map<String, Path> ordered = new LinkedHashMap<>();
+        images.keySet().forEach(name -> ordered.put(name, files.get(name)));
+        return ordered;
+    }
+
+    /**
+     * Element rects in page coordinates (CSS px) plus the viewport as the last entry.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Rectangle> pageRects(WebDriver driver, List<String> names, Map<String, ?> targets) {
+        List<Object> args = new ArrayList<>();
+        for (String name : names) {
+            Object target = targets.get(name);
+            args.add(target instanceof By by ? JsLocators.toArgs(by) : target);
+        }
+        List<List<Number>> raw = (List<List<Number>>) ((JavascriptExecutor) driver).executeScript(RECTS_SCRIPT, args);
+
+        List<Number> view = raw.get(raw.size() - 1);
+        double scrollX = view.get(0).doubleValue();
+        double scrollY = view.get(1).doubleValue();
+        List<Rectangle> rects = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            List<Number> r = raw.get(i);
+            if (r == null) {
+                throw new NoSuchElementException("Unable to locate element for screenshot '" + names.get(i)
+                        + "': " + targets.get(names.get(i)));
+            }
+            rects.add(rect(r.get(0).doubleValue() + scrollX, r.get(1).doubleValue() + scrollY,
+                    r.get(2).doubleValue(), r.get(3).doubleValue()));
+        }
+        rects.add(rect(scrollX, scrollY, view.get(2).doubleValue(), view.get(3).doubleValue()));
+        return rects;
+    }
+
+    /**
+     * Smallest region covering every element rect (the viewport entry at the end excluded), at least
+     * 1×1 CSS px: CDP rejects a zero-sized clip, and collapsed elements have zero width or height.
+     */
+    static Rectangle union(List<Rectangle> rects) {
+        int left = Integer.MAX_VALUE;
+        int top = Integer.MAX_VALUE;
+        int right = Integer.MIN_VALUE;
+        int bottom = Integer.MIN_VALUE;
+        // Last entry is the viewport, not an element
+        for (Rectangle r : rects.subList(0, rects.size() - 1)) {
+            left = Math.min(left, r.getX());
+            top = Math.min(top, r.getY());
+            right = Math.max(right, r.getX() + r.getWidth());
+            bottom = Math.max(bottom, r.getY() + r.getHeight());
+        }
+        return new Rectangle(left, top, Math.max(bottom - top, 1), Math.max(right - left, 1));
+    }
+
+    /**
+     * Cuts {@code element} (page CSS px) out of a capture of {@code origin}; empty elements come out 1×1.
+     */
+    static BufferedImage crop(BufferedImage page, Rectangle element, Rectangle origin, double scale) {
+        int x = (int) Math.round((element.getX() - origin.getX()) * scale);
+        int y = (int) Math.round((element.getY() - origin.getY()) * scale);
+        int width = Math.max((int) Math.round(element.getWidth() * scale), 1);
+        int height = Math.max((int) Math.round(element.getHeight() * scale), 1);
+        if (x < 0 || y < 0 || x + width > page.getWidth() || y + height > page.getHeight()) {
+            throw new WebDriverException("Element " + element + " is outside the captured area " + origin
+                    + " — scroll it into view first");
+        }
+        // Copy so each crop does not pin the whole page raster in memory
+        BufferedImage copy = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = copy.createGraphics();
+        graphics.drawImage(page.getSubimage(x, y, width, height), 0, 0, null);
+        graphics.dispose();
+        return copy;
+    }
+
+    private static BufferedImage decode(String base64) {
+        try {
+            return ImageIO.read(new ByteArrayInputStream(Base64.getDecoder().decode(base64)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not decode page capture", e);
+        }
+    }
+
+    static Rectangle rect(double x, double y, double width, double height) {
+        // Selenium's Rectangle takes (x, y, height, width)
+        return new Rectangle((int) Math.floor(x), (int) Math.floor(y),
+                (int) Math.ceil(height), (int) Math.ceil(width));
+    }
+}
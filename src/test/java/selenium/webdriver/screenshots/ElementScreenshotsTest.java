@@ -0,0 +1,90 @@
+package selenium.webdriver.screenshots;
+
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriverException;
+import org.testng.annotations.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+public class ElementScreenshotsTest {
+
+    private static final Rectangle VIEWPORT = ElementScreenshots.rect(0, 0, 1280, 720);
+
+    private static List<Rectangle> withViewport(Rectangle... elements) {
+        List<Rectangle> rects = new ArrayList<>(List.of(elements));
+        rects.add(VIEWPORT);
+        return rects;
+    }
+
+    @Test
+    public void rectRoundsOutwardsToWholePixels() {
+        Rectangle rect = ElementScreenshots.rect(10.6, 20.2, 30.1, 40.9);
+
+        assertEquals(rect.getX(), 10);
+        assertEquals(rect.getY(), 20);
+        assertEquals(rect.getWidth(), 31);
+        assertEquals(rect.getHeight(), 41);
+    }
+
+    @Test
+    public void unionCoversEveryElementButNotTheViewport() {
+        Rectangle union = ElementScreenshots.union(withViewport(
+                ElementScreenshots.rect(100, 50, 20, 10),
+                ElementScreenshots.rect(10, 300, 500, 40)));
+
+        assertEquals(union, new Rectangle(10, 50, 290, 500));
+    }
+
+    @Test
+    public void unionOfCollapsedElementsIsAtLeastOnePixel() {
+        Rectangle union = ElementScreenshots.union(withViewport(
+                ElementScreenshots.rect(40, 60, 0, 0),
+                ElementScreenshots.rect(40, 60, 0, 0)));
+
+        assertEquals(union.getX(), 40);
+        assertEquals(union.getY(), 60);
+        assertEquals(union.getWidth(), 1);
+        assertEquals(union.getHeight(), 1);
+    }
+
+    @Test
+    public void cropIsRelativeToTheCapturedRegionAndScaled() {
+        // A 2x (HiDPI) capture of the region (100,100)-(200,150): each CSS px is 2x2 image px
+        Rectangle origin = ElementScreenshots.rect(100, 100, 100, 50);
+        BufferedImage page = new BufferedImage(200, 100, BufferedImage.TYPE_INT_ARGB);
+        page.setRGB(20, 10, 0xFFFF0000);
+
+        BufferedImage crop = ElementScreenshots.crop(page, ElementScreenshots.rect(110, 105, 30, 20), origin, 2.0);
+
+        assertEquals(crop.getWidth(), 60);
+        assertEquals(crop.getHeight(), 40);
+        assertEquals(crop.getRGB(0, 0), 0xFFFF0000);
+    }
+
+    @Test
+    public void emptyElementIsCroppedAsOnePixel() {
+        Rectangle origin = ElementScreenshots.rect(0, 0, 100, 100);
+        BufferedImage page = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage crop = ElementScreenshots.crop(page, ElementScreenshots.rect(99, 99, 0, 0), origin, 1.0);
+
+        assertEquals(crop.getWidth(), 1);
+        assertEquals(crop.getHeight(), 1);
+    }
+
+    @Test
+    public void elementOutsideTheCaptureIsRejected() {
+        Rectangle origin = ElementScreenshots.rect(0, 0, 100, 100);
+        BufferedImage page = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+
+        assertThrows(WebDriverException.class,
+                () -> ElementScreenshots.crop(page, ElementScreenshots.rect(90, 0, 20, 10), origin, 1.0));
+        assertThrows(WebDriverException.class,
+                () -> ElementScreenshots.crop(page, ElementScreenshots.rect(100, 100, 0, 0), origin, 1.0));
+    }
+}
@@ -0,0 +1,48 @@
+package selenium.webdriver.screenshots;
+
+import org.openqa.selenium.Rectangle;
+
+/**
+ * 🖼️ ScreenshotOptions — format, quality and region of a capture
+ *
+ * PNG is lossless but large; JPEG/WebP at quality 70–85 is typically 5–10x smaller and
+ * good enough for failure evidence. A clip region captures only part of the page.
+ *
+ * ⚠️ Format, quality and clip need Chromium (CDP Page.captureScreenshot). Other browsers
+ * fall back to a full-viewport PNG from the standard screenshot command.
+ *
+ * @param format       png, jpeg or webp
+ * @param quality      0–100, ignored for png
+ * @param clip         page region in CSS pixels, or null for the viewport
+ * @param fullPage     capture beyond the viewport (whole scrollable page)
+ */
+public record ScreenshotOptions(Format format, int quality, Rectangle clip, boolean fullPage) {
+
+    public enum Format {
+        PNG, JPEG, WEBP;
+
+        public String extension() {
+            return name().toLowerCase();
+        }
+    }
+
+    public static ScreenshotOptions png() {
+        return new ScreenshotOptions(Format.PNG, 100, null, false);
+    }
+
+    public static ScreenshotOptions jpeg(int quality) {
+        return new ScreenshotOptions(Format.JPEG, quality, null, false);
+    }
+
+    public static ScreenshotOptions webp(int quality) {
+        return new ScreenshotOptions(Format.WEBP, quality, null, false);
+    }
+
+    public ScreenshotOptions withClip(Rectangle region) {
+        return new ScreenshotOptions(format, quality, region, fullPage);
+    }
+
+    public ScreenshotOptions withFullPage() {
+        return new ScreenshotOptions(format, quality, clip, true);
+    }
+}
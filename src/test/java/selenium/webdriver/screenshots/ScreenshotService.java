@@ -0,0 +1,233 @@
+package selenium.webdriver.screenshots;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import selenium.webdriver.listeners.SeleniumEvents;
+import selenium.webdriver.utils.WebDriverUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 📸 ScreenshotService — capture on the test thread, everything else in the background
+ *
+ * The classic pattern
+ *     File tmp = driver.getScreenshotAs(OutputType.FILE);   // decode + temp file write
+ *     FileUtils.copyFile(tmp, target);                      // second full copy
+ * blocks the test on base64 decoding and two disk writes, and leaves the temp file behind.
+ *
+ * Here the test thread only fetches the base64 payload (the unavoidable browser round trip).
+ * Decoding, SHA-256 hashing and the single NIO write to the final path run on a bounded
+ * background executor. Identical frames (same content hash) are written once; later
+ * captures resolve to the first file. A file that already holds one image is never
+ * overwritten with another: reusing its path stores the new image next to it, with the
+ * content hash in the name (login.jpg → login-1f3a9c0e7b2d.jpg).
+ *
+ * ✅ Example:
+ *     ScreenshotService.getInstance()
+ *             .capture(driver, Path.of("target/screenshots/login.jpg"), ScreenshotOptions.jpeg(80));
+ *     ...
+ *     ScreenshotService.getInstance().flush();   // e.g. in @AfterSuite
+ *
+ * ⚠️ When more than {@code screenshot.queue} captures are pending, the capturing thread
+ * does the work itself (back-pressure instead of unbounded memory).
+ */
+public class ScreenshotService {
+
+    private static final int WORKERS = Integer.getInteger("screenshot.workers", 2);
+    private static final int QUEUE = Integer.getInteger("screenshot.queue", 64);
+
+    private static final ScreenshotService INSTANCE = new ScreenshotService();
+
+    private final ThreadPoolExecutor executor;
+    private final Map<String, CompletableFuture<Path>> byHash = new ConcurrentHashMap<>();
+    // File → hash of the image it holds; other captures may already point at it
+    private final Map<Path, String> canonical = new ConcurrentHashMap<>();
+    // Every capture not yet on disk, duplicates and failures included, for flush()
+    private final Set<CompletableFuture<Path>> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicInteger duplicates = new AtomicInteger();
+
+    private ScreenshotService() {
+        AtomicInteger threadId = new AtomicInteger();
+        executor = new ThreadPoolExecutor(WORKERS, WORKERS, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-writer-" + threadId.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "screenshot-flush"));
+    }
+
+    public static ScreenshotService getInstance() {
+        return INSTANCE;
+    }
+
+    public CompletableFuture<Path> capture(WebDriver driver, Path target) {
+        return capture(driver, target, ScreenshotOptions.png());
+    }
+
+    /**
+     * Captures now, writes later. The future completes with the file holding the image —
+     * {@code target}, or an earlier file with identical content.
+     */
+    public CompletableFuture<Path> capture(WebDriver driver, Path target, ScreenshotOptions options) {
+        String base64 = captureBase64(driver, options);
+        return track(CompletableFuture.supplyAsync(() -> Base64.getDecoder().decode(base64), executor)
+                .thenCompose(bytes -> store(bytes, target)));
+    }
+
+    /**
+     * Stores already-decoded image bytes through the same hash/dedupe/write path.
+     */
+    public CompletableFuture<Path> store(byte[] image, Path target) {
+        return track(CompletableFuture.supplyAsync(() -> sha256(image), executor)
+                .thenCompose(hash -> writeOnce(hash, image, target)));
+    }
+
+    private CompletableFuture<Path> track(CompletableFuture<Path> task) {
+        inFlight.add(task);
+        task.whenComplete((path, error) -> inFlight.remove(task));
+        return task;
+    }
+
+    private CompletableFuture<Path> writeOnce(String hash, byte[] image, Path target) {
+        CompletableFuture<Path> pending = new CompletableFuture<>();
+        CompletableFuture<Path> existing = byHash.putIfAbsent(hash, pending);
+        if (existing != null) {
+            duplicates.incrementAndGet();
+            return existing;
+        }
+        Path file = claim(target, hash);
+        try {
+            pending.complete(write(image, file));
+        } catch (RuntimeException e) {
+            canonical.remove(file.toAbsolutePath().normalize(), hash);
+            byHash.remove(hash, pending);
+            pending.completeExceptionally(e);
+        }
+        return pending;
+    }
+
+    /**
+     * The file to write {@code hash} to: {@code target}, unless it already holds a different image.
+     */
+    private Path claim(Path target, String hash) {
+        String owner = canonical.putIfAbsent(target.toAbsolutePath().normalize(), hash);
+        if (owner == null || owner.equals(hash)) {
+            return target;
+        }
+        String name = target.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String suffix = "-" + hash.substring(0, 12);
+        Path file = target.resolveSibling(dot < 0 ? name + suffix : name.substring(0, dot) + suffix + name.substring(dot));
+        canonical.put(file.toAbsolutePath().normalize(), hash);
+        return file;
+    }
+
+    /**
+     * Fetches the base64 payload from the browser — the only part done on the test thread.
+     */
+    public static String captureBase64(WebDriver driver, ScreenshotOptions options) {
+        SeleniumEvents.ScreenshotEvent event = new SeleniumEvents.ScreenshotEvent();
+        event.begin();
+        String outcome = "failed";
+        try {
+            String base64 = doCapture(WebDriverUtil.unwrap(driver), options);
+            outcome = "ok";
+            return base64;
+        } finally {
+            if (event.shouldCommit()) {
+                event.kind = options.format().extension() + (options.clip() != null ? " clip" : "");
+                event.sessionId = WebDriverUtil.unwrap(driver) instanceof RemoteWebDriver remote
+                        ? String.valueOf(remote.getSessionId()) : null;
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    private static String doCapture(WebDriver driver, ScreenshotOptions options) {
+        if (driver instanceof HasCdp cdp) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("format", options.format().extension());
+            if (options.format() != ScreenshotOptions.Format.PNG) {
+                params.put("quality", options.quality());
+            }
+            Rectangle clip = options.clip();
+            if (clip != null) {
+                params.put("clip", Map.of("x", clip.getX(), "y", clip.getY(),
+                        "width", clip.getWidth(), "height", clip.getHeight(), "scale", 1));
+            }
+            if (options.fullPage() || clip != null) {
+                params.put("captureBeyondViewport", true);
+            }
+            return (String) cdp.executeCdpCommand("Page.captureScreenshot", params).get("data");
+        }
+        return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+    }
+
+    /**
+     * Waits until every screenshot captured before this call is on disk (or has failed).
+     */
+    public void flush() {
+        CompletableFuture.allOf(inFlight.toArray(new CompletableFuture<?>[0]))
+                .exceptionally(e -> null)
+                .join();
+    }
+
+    public long bytesWritten() {
+        return bytesWritten.get();
+    }
+
+    public int duplicatesSkipped() {
+        return duplicates.get();
+    }
+
+    private Path write(byte[] image, Path target) {
+        try {
+            Path parent = target.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(target, image, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE);
+            bytesWritten.addAndGet(image.length);
+            return target;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write screenshot " + target, e);
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package selenium.webdriver.screenshots;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+public class ScreenshotServiceTest {
+
+    private final ScreenshotService service = ScreenshotService.getInstance();
+
+    @Test
+    public void identicalImagesAreWrittenOnce() throws IOException {
+        Path dir = Files.createTempDirectory("shots");
+        byte[] image = {1, 2, 3, 4};
+
+        Path first = service.store(image, dir.resolve("a.png")).join();
+        Path second = service.store(image.clone(), dir.resolve("b.png")).join();
+
+        assertEquals(second, first);
+        assertTrue(Files.notExists(dir.resolve("b.png")));
+    }
+
+    @Test
+    public void aReusedPathDoesNotOverwriteTheImageItHolds() throws IOException {
+        Path dir = Files.createTempDirectory("shots");
+        Path target = dir.resolve("login.png");
+
+        Path first = service.store(new byte[]{5, 6, 7}, target).join();
+        Path second = service.store(new byte[]{8, 9}, target).join();
+
+        assertEquals(first, target);
+        assertNotEquals(second, target);
+        assertEquals(Files.readAllBytes(first), new byte[]{5, 6, 7});
+        assertEquals(Files.readAllBytes(second), new byte[]{8, 9});
+        assertTrue(second.getFileName().toString().matches("login-[0-9a-f]{12}\\.png"));
+    }
+
+    @Test
+    public void flushWaitsForEveryStore() throws IOException {
+        Path dir = Files.createTempDirectory("shots");
+        CompletableFuture<?>[] stores = new CompletableFuture<?>[50];
+        for (int i = 0; i < stores.length; i++) {
+            stores[i] = service.store(new byte[]{(byte) i, 42, 42, 42}, dir.resolve(i + ".png"));
+        }
+
+        service.flush();
+
+        for (CompletableFuture<?> store : stores) {
+            assertTrue(store.isDone());
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package selenium.webdriver.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 🏊 DriverPool — warm, reusable browser sessions
+ *
+ * Launching a browser costs 1–3 s. For suites of many short tests that launch cost
+ * dominates wall-clock time, so the pool keeps up to N live sessions per browser type
+ * and hands them out one lease at a time.
+ *
+ * ✅ Lifecycle of a pooled session:
+ *  1. lease()   — take an idle session (or launch one if the pool is not full yet)
+ *  2. use it from exactly one thread
+ *  3. release() — reset it (cookies, storage, extra windows, about:blank) and return it
+ *  4. recycle   — quit it instead when it has reached maxUses or fails the health check
+ *
+ * Helpers that leave per-session state in the browser register an onReset() callback, so the pool
+ * clears it without knowing about them.
+ *
+ * 🔧 Configuration (system properties):
+ *  - driver.pool.size     — max live sessions per browser (default: available processors)
+ *  - driver.pool.maxUses  — leases before a session is recycled (default: 50)
+ *  - driver.pool.timeout  — seconds to wait for a free session (default: 120)
+ */
+public class DriverPool {
+
+    private static final int POOL_SIZE =
+            Integer.getInteger("driver.pool.size", Runtime.getRuntime().availableProcessors());
+    private static final int MAX_USES = Integer.getInteger("driver.pool.maxUses", 50);
+    private static final Duration LEASE_TIMEOUT =
+            Duration.ofSeconds(Integer.getInteger("driver.pool.timeout", 120));
+
+    // Every pool ever created — one shutdown hook quits the sessions of all of them
+    private static final Set<DriverPool> POOLS = ConcurrentHashMap.newKeySet();
+    private static final List<Consumer<WebDriver>> RESET_CALLBACKS = new CopyOnWriteArrayList<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> POOLS.forEach(DriverPool::shutdown), "driver-pool-shutdown"));
+    }
+
+    private static final DriverPool INSTANCE = new DriverPool(WebDriverUtil::createDriver, POOL_SIZE, MAX_USES);
+
+    private final Function<String, WebDriver> factory;
+    private final int maxSize;
+    private final int maxUses;
+    private final Map<String, BrowserPool> pools = new ConcurrentHashMap<>();
+    private final Map<WebDriver, PooledDriver> leased = new ConcurrentHashMap<>();
+
+    public DriverPool(Function<String, WebDriver> factory, int maxSize, int maxUses) {
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.maxUses = maxUses;
+        POOLS.add(this);
+    }
+
+    public static DriverPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Runs {@code callback} on every session the pool resets, before cookies and storage are cleared.
+     * A callback that throws a WebDriverException fails the reset, and the session is quit.
+     */
+    public static void onReset(Consumer<WebDriver> callback) {
+        RESET_CALLBACKS.add(callback);
+    }
+
+    /**
+     * Launches sessions in parallel until the pool for this browser holds {@code count} idle ones.
+     * Call it once before the suite starts so the first tests do not pay the launch cost.
+     */
+    public void prewarm(String browserName, int count) {
+        BrowserPool pool = poolFor(browserName);
+        int toLaunch = Math.min(count, maxSize) - pool.idle.size();
+        if (toLaunch <= 0) {
+            return;
+        }
+        // Launches block for seconds on process start-up — keep them off the common ForkJoinPool
+        ExecutorService launcher = Executors.newFixedThreadPool(toLaunch, runnable -> {
+            Thread thread = new Thread(runnable, "driver-pool-prewarm");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<CompletableFuture<Void>> launches = new ArrayList<>();
+            for (int i = 0; i < toLaunch; i++) {
+                if (!pool.permits.tryAcquire()) {
+                    break;
+                }
+                launches.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        pool.idle.offerLast(new PooledDriver(pool.browser, factory.apply(pool.browser)));
+                    } finally {
+                        pool.permits.release();
+                    }
+                }, launcher));
+            }
+            CompletableFuture.allOf(launches.toArray(new CompletableFuture<?>[0])).join();
+        } finally {
+            launcher.shutdown();
+        }
+    }
+
+    /**
+     * Hands out a session for exclusive use by the calling thread.
+     * Blocks while all {@code driver.pool.size} sessions of this browser are leased.
+     */
+    public WebDriver lease(String browserName) {
+        BrowserPool pool = poolFor(browserName);
+        try {
+            if (!pool.permits.tryAcquire(LEASE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new WebDriverException("No " + pool.browser + " session became free within " + LEASE_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting for a " + pool.browser + " session", e);
+        }
+
+        try {
+            PooledDriver pooled;
+            while ((pooled = pool.idle.pollFirst()) != null) {
+                if (isHealthy(pooled.driver)) {
+                    break;
+                }
+                quitQuietly(pooled.driver);
+            }
+            if (pooled == null) {
+                pooled = new PooledDriver(pool.browser, factory.apply(pool.browser));
+            }
+            pooled.uses++;
+            leased.put(pooled.driver, pooled);
+            return pooled.driver;
+        } catch (RuntimeException e) {
+            pool.permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a leased session to the pool. The session is reset first; if the reset fails,
+     * the health check fails, or it has been used {@code maxUses} times, it is quit instead.
+     */
+    public void release(WebDriver driver) {
+        PooledDriver pooled = leased.remove(driver);
+        if (pooled == null) {
+            // ❗ Not ours (created outside the pool) — just end it
+            quitQuietly(driver);
+            return;
+        }
+        BrowserPool pool = poolFor(pooled.browser);
+        try {
+            if (pooled.uses < maxUses && reset(pooled) && isHealthy(driver)) {
+                // LIFO keeps the most recently used (hottest) sessions in rotation
+                pool.idle.offerFirst(pooled);
+            } else {
+                quitQuietly(driver);
+            }
+        } finally {
+            pool.permits.release();
+        }
+    }
+
+    /**
+     * Quits every idle session. Leased sessions are quit when they are released.
+     */
+    public void shutdown() {
+        for (BrowserPool pool : pools.values()) {
+            PooledDriver pooled;
+            while ((pooled = pool.idle.pollFirst()) != null) {
+                quitQuietly(pooled.driver);
+            }
+        }
+        leased.keySet().forEach(DriverPool::quitQuietly);
+        leased.clear();
+    }
+
+    /**
+     * Brings a session back to a blank state between leases:
+     * every window but the session's first one closed, storage and cookies cleared, implicit wait off,
+     * and about:blank loaded. If the test closed the first window, the current one is kept instead.
+     *
+     * WebDriver's cookie and storage calls only reach the CURRENT origin. On Chromium the pool
+     * clears every cookie through CDP, and the storage of every origin found in the windows'
+     * navigation history; other browsers only get the current origin cleared.
+     */
+    private static boolean reset(PooledDriver pooled) {
+        WebDriver driver = pooled.driver;
+        try {
+            HasCdp cdp = driver instanceof HasCdp c ? c : null;
+            Set<String> origins = new LinkedHashSet<>();
+            // getWindowHandles() is a set in no particular order — keep the window we know, not the "first"
+            Set<String> handles = driver.getWindowHandles();
+            String home = handles.contains(pooled.home) ? pooled.home : currentOrAny(driver, handles);
+            for (String handle : handles) {
+                if (!handle.equals(home)) {
+                    driver.switchTo().window(handle);
+                    collectOrigins(cdp, origins);
+                    driver.close();
+                }
+            }
+            driver.switchTo().window(home);
+            pooled.home = home;
+            driver.switchTo().defaultContent();
+            collectOrigins(cdp, origins);
+
+            for (Consumer<WebDriver> callback : RESET_CALLBACKS) {
+                callback.accept(driver);
+            }
+            // Storage is scoped to the current origin, so clear it before leaving the page
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.manage().deleteAllCookies();
+            if (cdp != null) {
+                cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+                for (String origin : origins) {
+                    cdp.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+                }
+            }
+            driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+            driver.get("about:blank");
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private static String currentOrAny(WebDriver driver, Set<String> handles) {
+        try {
+            return driver.getWindowHandle();
+        } catch (NoSuchWindowException e) {
+            // The current window was closed too — any survivor will do
+            return handles.iterator().next();
+        }
+    }
+
+    /**
+     * Adds the origins of every page in the current window's history (back and forward entries too).
+     */
+    @SuppressWarnings("unchecked")
+    private static void collectOrigins(HasCdp cdp, Set<String> origins) {
+        if (cdp == null) {
+            return;
+        }
+        Object entries = cdp.executeCdpCommand("Page.getNavigationHistory", Map.of()).get("entries");
+        if (!(entries instanceof List<?> list)) {
+            return;
+        }
+        for (Object entry : list) {
+            Object url = ((Map<String, Object>) entry).get("url");
+            try {
+                URI uri = URI.create(String.valueOf(url));
+                if (uri.getScheme() != null && uri.getScheme().startsWith("http") && uri.getHost() != null) {
+                    origins.add(uri.getScheme() + "://" + uri.getHost() + (uri.getPort() != -1 ? ":" + uri.getPort() : ""));
+                }
+            } catch (IllegalArgumentException e) {
+                // data:, about: and malformed URLs have no storage worth clearing
+            }
+        }
+    }
+
+    static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private BrowserPool poolFor(String browserName) {
+        String browser = browserName.toLowerCase();
+        return pools.computeIfAbsent(browser, b -> new BrowserPool(b, maxSize));
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException ignored) {
+            // Session is already gone — nothing left to clean up
+        }
+    }
+
+    private static final class BrowserPool {
+        private final String browser;
+        private final Semaphore permits;
+        private final BlockingDeque<PooledDriver> idle = new LinkedBlockingDeque<>();
+
+        private BrowserPool(String browser, int maxSize) {
+            this.browser = browser;
+            this.permits = new Semaphore(maxSize, true);
+        }
+    }
+
+    private static final class PooledDriver {
+        private final String browser;
+        private final WebDriver driver;
+        // The window the session started with — the one reset() keeps
+        private String home;
+        private int uses;
+
+        private PooledDriver(String browser, WebDriver driver) {
+            this.browser = browser;
+            this.driver = driver;
+            this.home = driver.getWindowHandle();
+        }
+    }
+}
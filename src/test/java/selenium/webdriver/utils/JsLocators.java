@@ -0,0 +1,65 @@
+package selenium.webdriver.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+
+import java.util.List;
+
+/**
+ * 🔎 JsLocators — evaluate {@link By} locators inside the page
+ *
+ * Helpers that run a lookup in JavaScript (to batch it with other work in one
+ * executeScript call) need the locator in a form the page understands.
+ * Every standard By is "remotable": it can be reduced to the W3C strategy
+ * (css selector, xpath, link text, partial link text, tag name) plus a value.
+ *
+ * ✅ Usage in a script:
+ *     JsLocators.FIND_ALL_FUNCTION + "return __findAll(arguments[0], arguments[1], document);"
+ * with JsLocators.toArgs(by) as the first two script arguments.
+ */
+public final class JsLocators {
+
+    /**
+     * Declares {@code __findAll(using, value, root)} returning an array of matching elements.
+     */
+    public static final String FIND_ALL_FUNCTION = """
+            function __findAll(using, value, root) {
+              root = root || document;
+              switch (using) {
+                case 'css selector':
+                  return Array.prototype.slice.call(root.querySelectorAll(value));
+                case 'tag name':
+                  return Array.prototype.slice.call(root.getElementsByTagName(value));
+                case 'xpath': {
+                  var doc = root.ownerDocument || root;
+                  var snapshot = doc.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                  var found = [];
+                  for (var i = 0; i < snapshot.snapshotLength; i++) found.push(snapshot.snapshotItem(i));
+                  return found;
+                }
+                case 'link text':
+                case 'partial link text':
+                  return Array.prototype.slice.call(root.querySelectorAll('a')).filter(function (a) {
+                    var text = (a.innerText || a.textContent || '').trim();
+                    return using === 'link text' ? text === value : text.indexOf(value) !== -1;
+                  });
+                default:
+                  throw new Error('Unsupported locator strategy: ' + using);
+              }
+            }
+            """;
+
+    private JsLocators() {
+    }
+
+    /**
+     * Converts a locator to its [strategy, value] pair for use as script arguments.
+     */
+    public static List<Object> toArgs(By by) {
+        if (!(by instanceof By.Remotable remotable)) {
+            throw new InvalidSelectorException("Locator cannot be evaluated in the page: " + by);
+        }
+        By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+        return List.of(parameters.using(), String.valueOf(parameters.value()));
+    }
+}
@@ -2,25 +2,118 @@ package selenium.webdriver.utils;
 
 import io.appium.java_client.safari.SafariDriver;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import selenium.webdriver.drivers.UploadCache;
+import selenium.webdriver.elements.ElementCache;
+import selenium.webdriver.listeners.CommandLatencyListener;
+import selenium.webdriver.listeners.EventLog;
+import selenium.webdriver.listeners.JfrCommandListener;
+import selenium.webdriver.listeners.SeleniumEvents;
+
+import java.util.ArrayList;
+import java.util.List;
 
 public class WebDriverUtil {
-    private static WebDriver driver;
+    // One leased session per test thread — parallel tests never share a driver
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+    private static final boolean METRICS_ENABLED = Boolean.getBoolean("metrics.enabled");
+    private static final boolean JFR_COMMANDS_ENABLED = Boolean.getBoolean("jfr.commands");
     private static final String BASE_URL = "https://www.tutorialspoint.com/selenium/practice/selenium_automation_practice.php";
 
     public static WebDriver initDriver(String browserName) {
-        driver = createDriver(browserName);
+        WebDriver driver = getDriver(browserName);
         driver.get(BASE_URL);
         driver.manage().window().maximize();
         return driver;
     }
+
+    /**
+     * Returns this thread's driver, leasing a warm session from the {@link DriverPool} on first use.
+     * With -Dmetrics.enabled=true the driver is wrapped so every command's latency is recorded,
+     * with -Djfr.commands=true every command also emits a JFR event.
+     */
+    public static WebDriver getDriver(String browserName) {
+        WebDriver driver = DRIVER.get();
+        if (driver == null) {
+            driver = DriverPool.getInstance().lease(browserName);
+            List<WebDriverListener> listeners = new ArrayList<>();
+            if (METRICS_ENABLED) {
+                listeners.add(new CommandLatencyListener(driver));
+            }
+            if (JFR_COMMANDS_ENABLED) {
+                listeners.add(new JfrCommandListener(driver));
+            }
+            if (!listeners.isEmpty()) {
+                driver = new EventFiringDecorator<>(listeners.toArray(new WebDriverListener[0])).decorate(driver);
+            }
+            DRIVER.set(driver);
+            // Events this thread logs from now on carry the session ID
+            EventLog.session(unwrap(driver) instanceof RemoteWebDriver remote ? String.valueOf(remote.getSessionId()) : null);
+        }
+        return driver;
+    }
+
+    /**
+     * This thread's driver if it has leased one, otherwise null — never leases a new session.
+     */
+    public static WebDriver currentDriver() {
+        return DRIVER.get();
+    }
+
+    /**
+     * Hands this thread's driver back to the pool (reset, not quit). Call it from @AfterMethod.
+     */
+    public static void releaseDriver() {
+        WebDriver driver = DRIVER.get();
+        if (driver != null) {
+            DRIVER.remove();
+            EventLog.session(null);
+            // The next lease of this session starts with an empty element cache
+            ElementCache.release(driver);
+            if (unwrap(driver) instanceof RemoteWebDriver remote) {
+                // The pool may quit the session now; a fresh upload is cheap next to a stale node path
+                UploadCache.getDefault().forget(remote.getSessionId());
+            }
+            // The pool tracks the raw session, not the listener wrapper
+            DriverPool.getInstance().release(unwrap(driver));
+        }
+    }
+
     public static WebDriver createDriver(String browserName) {
-        return switch (browserName.toLowerCase()) {
-            case "firefox" -> new FirefoxDriver();
-            case "edge" -> new EdgeDriver();
-            default -> new ChromeDriver();
-        };
+        SeleniumEvents.DriverStartEvent event = new SeleniumEvents.DriverStartEvent();
+        event.begin();
+        WebDriver driver = null;
+        try {
+            driver = switch (browserName.toLowerCase()) {
+                case "firefox" -> new FirefoxDriver();
+                case "edge" -> new EdgeDriver();
+                default -> new ChromeDriver();
+            };
+            return driver;
+        } finally {
+            if (event.shouldCommit()) {
+                event.browser = browserName;
+                event.sessionId = driver instanceof RemoteWebDriver remote ? String.valueOf(remote.getSessionId()) : null;
+                event.outcome = driver != null ? "ok" : "failed";
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * The underlying driver behind listener/decorator wrappers, so capability checks
+     * like {@code instanceof HasCdp} still see the real browser driver.
+     */
+    public static WebDriver unwrap(WebDriver driver) {
+        while (driver instanceof WrapsDriver wrapper) {
+            driver = wrapper.getWrappedDriver();
+        }
+        return driver;
     }
 }
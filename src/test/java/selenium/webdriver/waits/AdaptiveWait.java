@@ -0,0 +1,122 @@
+package selenium.webdriver.waits;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
+import selenium.webdriver.listeners.SeleniumEvents;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * 🪄 AdaptiveWait — a FluentWait that picks its own polling schedule
+ *
+ * A fixed pollingEvery(500ms) either over-waits (up to 500 ms late per wait) or,
+ * when made small, hammers the driver for slow conditions. AdaptiveWait instead:
+ *  1. checks immediately (like FluentWait)
+ *  2. if this condition has history, sleeps straight to its typical early settle time
+ *     (25th percentile of recent settle times, at most a quarter of the timeout) — no point
+ *     polling before that
+ *  3. then polls tightly (10 ms) and backs off exponentially (x2) up to 500 ms
+ *
+ * Every wait is recorded in {@link WaitStatistics} under its key (the locator by default),
+ * which is also where the history in step 2 comes from. A wait that succeeds on the first poll
+ * after the head start only shows the condition settled somewhere within it, so it records half
+ * the head start: an overshooting head start shrinks again instead of feeding on itself.
+ *
+ * ✅ Drop-in for FluentWait:
+ *     new AdaptiveWait<>(driver, By.id("revealed"))
+ *             .withTimeout(Duration.ofSeconds(10))
+ *             .ignoring(NoSuchElementException.class)
+ *             .until(d -> d.findElement(By.id("revealed")).isDisplayed());
+ *
+ * ⚠️ pollingEvery() is ignored — the schedule is adaptive. Not thread-safe: one instance per thread.
+ */
+public class AdaptiveWait<T> extends FluentWait<T> {
+
+    private static final Duration MIN_POLL = Duration.ofMillis(10);
+    private static final Duration MAX_POLL = Duration.ofMillis(500);
+    private static final double BACKOFF = 2.0;
+
+    private final String key;
+    private final BackoffSleeper backoff;
+
+    public AdaptiveWait(T input, By locator) {
+        this(input, locator.toString());
+    }
+
+    public AdaptiveWait(T input, String key) {
+        this(input, key, new BackoffSleeper());
+    }
+
+    private AdaptiveWait(T input, String key, BackoffSleeper backoff) {
+        super(input, Clock.systemDefaultZone(), backoff);
+        this.key = key;
+        this.backoff = backoff;
+    }
+
+    @Override
+    public <V> V until(Function<? super T, ? extends V> isTrue) {
+        backoff.start(WaitStatistics.history(key), timeout);
+        long start = System.nanoTime();
+        boolean satisfied = false;
+        try {
+            V value = SeleniumEvents.recordWait(key, () -> super.until(isTrue));
+            satisfied = true;
+            return value;
+        } finally {
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            long settleMs = backoff.sleeps == 1 && backoff.headStartMs > 0 ? backoff.headStartMs / 2 : elapsedMs;
+            WaitStatistics.record(key, elapsedMs, settleMs, backoff.sleeps + 1, !satisfied);
+        }
+    }
+
+    /**
+     * Convenience for the common "find the element, then check it" case keyed by locator.
+     */
+    public static <S extends SearchContext> AdaptiveWait<S> forLocator(S context, By locator) {
+        return new AdaptiveWait<>(context, locator);
+    }
+
+    /**
+     * Replaces FluentWait's fixed interval with: head start from history, then exponential backoff.
+     */
+    private static final class BackoffSleeper implements Sleeper {
+        private Duration next;
+        private int sleeps;
+        // 0 when this wait polls from the start
+        private long headStartMs;
+
+        void start(long[] history, Duration timeout) {
+            sleeps = 0;
+            next = MIN_POLL;
+            headStartMs = 0;
+            if (history.length > 0) {
+                long[] sorted = history.clone();
+                Arrays.sort(sorted);
+                // FluentWait does not cut a Sleeper short at the timeout — the cap has to be here
+                long learned = Math.min(WaitStatistics.percentile(sorted, 0.25), timeout.toMillis() / 4);
+                if (learned > MIN_POLL.toMillis()) {
+                    headStartMs = learned;
+                    next = Duration.ofMillis(learned);
+                }
+            }
+        }
+
+
+        @Override
+        public void sleep(Duration ignoredInterval) throws InterruptedException {
+            Duration current = next;
+            sleeps++;
+            Thread.sleep(current.toMillis());
+            long backedOff = Math.round(Math.max(current.toMillis(), MIN_POLL.toMillis()) * BACKOFF);
+            // After the history-based head start, go back to tight polling and grow from there
+            next = sleeps == 1 && current.compareTo(MIN_POLL) > 0
+                    ? MIN_POLL
+                    : Duration.ofMillis(Math.min(backedOff, MAX_POLL.toMillis()));
+        }
+    }
+}
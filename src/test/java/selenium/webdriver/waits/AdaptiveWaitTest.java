@@ -0,0 +1,84 @@
+package selenium.webdriver.waits;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class AdaptiveWaitTest {
+
+    @AfterMethod
+    public void clear() {
+        WaitStatistics.reset();
+    }
+
+    /**
+     * Waits for a condition that turns true {@code settleMs} after its first check (never on the first
+     * check itself), returns how long it took from that check on.
+     */
+    private static long waitFor(String key, long settleMs, Duration timeout) {
+        long[] firstCheck = {0};
+        new AdaptiveWait<>(new Object(), key)
+                .withTimeout(timeout)
+                .until(input -> {
+                    if (firstCheck[0] == 0) {
+                        firstCheck[0] = System.nanoTime();
+                        return false;
+                    }
+                    return System.nanoTime() - firstCheck[0] >= settleMs * 1_000_000;
+                });
+        return (System.nanoTime() - firstCheck[0]) / 1_000_000;
+    }
+
+    private static long lastSettle(String key) {
+        long[] history = WaitStatistics.history(key);
+        return history[history.length - 1];
+    }
+
+    @Test
+    public void headStartIsCappedAtAQuarterOfTheTimeout() {
+        WaitStatistics.record("slow once", 8_000, 1, false);
+
+        long elapsed = waitFor("slow once", 5, Duration.ofSeconds(1));
+
+        // 250 ms head start, not the 8 s a cold wait once took
+        assertTrue(elapsed >= 250 && elapsed < 1_000, "took " + elapsed + " ms");
+    }
+
+    @Test
+    public void overshootingHeadStartShrinks() {
+        WaitStatistics.record("fast now", 400, 1, false);
+
+        waitFor("fast now", 5, Duration.ofSeconds(10));
+        // Satisfied on the first poll after a 400 ms head start: only half of it is learned
+        assertEquals(lastSettle("fast now"), 200);
+
+        waitFor("fast now", 5, Duration.ofSeconds(10));
+        assertEquals(lastSettle("fast now"), 100);
+    }
+
+    @Test
+    public void waitsThatOutlastTheHeadStartAreLearnedAsMeasured() {
+        WaitStatistics.record("slower", 50, 1, false);
+
+        long elapsed = waitFor("slower", 200, Duration.ofSeconds(10));
+
+        assertEquals(lastSettle("slower"), WaitStatistics.summary("slower").maxMs());
+        assertTrue(lastSettle("slower") >= 200 && lastSettle("slower") <= elapsed, "learned " + lastSettle("slower"));
+    }
+
+    @Test
+    public void elapsedTimeIsStillReported() {
+        WaitStatistics.record("reported", 400, 1, false);
+
+        long elapsed = waitFor("reported", 5, Duration.ofSeconds(10));
+
+        WaitStatistics.Summary summary = WaitStatistics.summary("reported");
+        assertEquals(summary.waits(), 2);
+        assertTrue(elapsed >= 400, "took " + elapsed + " ms");
+        assertTrue(summary.totalMs() >= 400 + 400, summary.toString());
+    }
+}
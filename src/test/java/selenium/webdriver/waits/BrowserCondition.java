@@ -0,0 +1,113 @@
+package selenium.webdriver.waits;
+
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 🧩 BrowserCondition — a wait condition evaluated entirely inside the page
+ *
+ * Built from a locator plus any number of checks that are AND-ed together:
+ *
+ *     BrowserCondition.located(By.id("revealed")).visible().enabled().textMatches("^Hello")
+ *
+ * Each check is a small JavaScript expression over {@code el}; its parameters travel as
+ * script arguments (never concatenated into the source), so values need no escaping.
+ *
+ * See {@link BrowserWait} for how the condition is shipped to the browser.
+ */
+public class BrowserCondition {
+
+    private final By locator;
+    private final List<String> checks = new ArrayList<>();
+    private final List<Object> params = new ArrayList<>();
+    private final List<String> descriptions = new ArrayList<>();
+
+    private BrowserCondition(By locator) {
+        this.locator = locator;
+    }
+
+    /**
+     * The element exists in the DOM (like presenceOfElementLocated).
+     */
+    public static BrowserCondition located(By locator) {
+        return new BrowserCondition(locator);
+    }
+
+    /**
+     * Rendered with a non-empty box and not hidden by visibility/display/opacity.
+     */
+    public BrowserCondition visible() {
+        return check("visible",
+                "(function (s) { return s.display !== 'none' && s.visibility !== 'hidden' && s.opacity !== '0'"
+                        + " && el.getClientRects().length > 0; })(window.getComputedStyle(el))");
+    }
+
+    /**
+     * Not disabled (form controls) and not inside a disabled fieldset.
+     */
+    public BrowserCondition enabled() {
+        return check("enabled", "!el.disabled && !el.closest('fieldset[disabled]')");
+    }
+
+    /**
+     * Visible text (innerText) matches the JavaScript regular expression.
+     */
+    public BrowserCondition textMatches(String regex) {
+        return check("text matches /" + regex + "/",
+                "new RegExp(p[%d]).test(el.innerText || el.textContent || '')", regex);
+    }
+
+    /**
+     * Attribute (or property, e.g. value) equals the given string.
+     */
+    public BrowserCondition attributeEquals(String name, String value) {
+        return check(name + " = '" + value + "'",
+                "String(el.getAttribute(p[%1$d]) !== null ? el.getAttribute(p[%1$d]) : el[p[%1$d]]) === p[%2$d]",
+                name, value);
+    }
+
+    /**
+     * Not covered by another element at its centre point (i.e. a click would land on it).
+     */
+    public BrowserCondition notObscured() {
+        return check("not obscured",
+                "(function (r) { var hit = document.elementFromPoint(r.left + r.width / 2, r.top + r.height / 2);"
+                        + " return hit === el || el.contains(hit); })(el.getBoundingClientRect())");
+    }
+
+    By locator() {
+        return locator;
+    }
+
+    List<Object> params() {
+        return params;
+    }
+
+    /**
+     * JavaScript expression over {@code el} and {@code p} (the parameter array).
+     */
+    String predicate() {
+        return checks.isEmpty() ? "true" : String.join(" && ", checks);
+    }
+
+    private BrowserCondition check(String description, String jsTemplate, Object... values) {
+        Object[] indexes = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            indexes[i] = params.size();
+            params.add(values[i]);
+        }
+        checks.add("(" + String.format(jsTemplate, indexes) + ")");
+        descriptions.add(description);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        List<String> all = new ArrayList<>();
+        all.add("located " + locator);
+        all.addAll(descriptions);
+        return String.join(" AND ", all);
+    }
+}
@@ -0,0 +1,181 @@
+package selenium.webdriver.waits;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import selenium.webdriver.listeners.SeleniumEvents;
+import selenium.webdriver.utils.JsLocators;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ⚡ BrowserWait — event-driven waits that run inside the page
+ *
+ * WebDriverWait / FluentWait poll from the client: every poll is one or more HTTP
+ * round trips (findElement, isDisplayed, isEnabled...), and readiness is only noticed
+ * at the next poll — up to 500 ms late by default.
+ *
+ * BrowserWait sends the whole {@link BrowserCondition} to the browser in ONE
+ * executeAsyncScript call. The page re-checks it:
+ *  - immediately,
+ *  - on the next animation frame after any DOM mutation (MutationObserver),
+ *  - after CSS transitions/animations end (they change visibility without mutating the DOM),
+ *  - and on a slow fallback timer, in case none of the above fire.
+ * and answers as soon as it holds, so readiness is seen within one frame of the change.
+ *
+ * ✅ Example:
+ *     WebElement input = BrowserWait.on(driver, Duration.ofSeconds(10))
+ *             .until(BrowserCondition.located(By.id("revealed")).visible().enabled());
+ *
+ * ⚠️ If the page navigates while waiting, the script is discarded by the browser;
+ * the wait is then re-armed on the new document for the remaining time. Any other
+ * WebDriverException (session gone, bad selector, ...) is rethrown at once.
+ */
+public class BrowserWait {
+
+    private static final Duration SCRIPT_TIMEOUT_MARGIN = Duration.ofSeconds(2);
+    private static final long FALLBACK_CHECK_MS = 250;
+
+    // Chrome/Edge ("document unloaded while waiting for result", CDP context errors) and Firefox ("Document was unloaded")
+    private static final List<String> NAVIGATION_ERRORS = List.of(
+            "document unloaded",
+            "document was unloaded",
+            "inspected target navigated or closed",
+            "execution context was destroyed",
+            "cannot find context with specified id");
+
+    private static final String WAIT_SCRIPT = JsLocators.FIND_ALL_FUNCTION + """
+            var using = arguments[0], value = arguments[1], p = arguments[2], timeoutMs = arguments[3],
+                fallbackMs = arguments[4], done = arguments[arguments.length - 1];
+            function check() {
+              var found = __findAll(using, value, document);
+              for (var i = 0; i < found.length; i++) {
+                var el = found[i];
+                if (%s) return el;
+              }
+              return null;
+            }
+            var first = check();
+            if (first) { done({ element: first }); return; }
+
+            var finished = false, scheduled = false, observer, deadline, fallback;
+            function finish(result) {
+              if (finished) return;
+              finished = true;
+              observer.disconnect();
+              clearTimeout(deadline);
+              clearInterval(fallback);
+              document.removeEventListener('transitionend', schedule, true);
+              document.removeEventListener('animationend', schedule, true);
+              done(result);
+            }
+            function schedule() {
+              if (scheduled || finished) return;
+              scheduled = true;
+              requestAnimationFrame(function () {
+                scheduled = false;
+                var el = check();
+                if (el) finish({ element: el });
+              });
+            }
+            observer = new MutationObserver(schedule);
+            observer.observe(document, { subtree: true, childList: true, attributes: true, characterData: true });
+            document.addEventListener('transitionend', schedule, true);
+            document.addEventListener('animationend', schedule, true);
+            fallback = setInterval(schedule, fallbackMs);
+            deadline = setTimeout(function () { finish({ timedOut: true }); }, timeoutMs);
+            """;
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private String message;
+
+    private BrowserWait(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+    }
+
+    public static BrowserWait on(WebDriver driver, Duration timeout) {
+        return new BrowserWait(driver, timeout);
+    }
+
+    /**
+     * Custom message for the TimeoutException, like FluentWait.withMessage().
+     */
+    public BrowserWait withMessage(String message) {
+        this.message = message;
+        return this;
+    }
+
+    /**
+     * Waits until the condition holds and returns the first matching element.
+     *
+     * @throws TimeoutException if it does not hold within the timeout
+     */
+    public WebElement until(BrowserCondition condition) {
+        return SeleniumEvents.recordWait("in-browser: " + condition, () -> awaitInPage(condition));
+    }
+
+    private WebElement awaitInPage(BrowserCondition condition) {
+        String script = String.format(WAIT_SCRIPT, condition.predicate());
+        List<Object> args = new ArrayList<>(JsLocators.toArgs(condition.locator()));
+        args.add(condition.params());
+
+        WebDriver.Timeouts timeouts = driver.manage().timeouts();
+        Duration originalScriptTimeout = timeouts.getScriptTimeout();
+        long end = System.nanoTime() + timeout.toNanos();
+        try {
+            while (true) {
+                long remainingMs = Math.max(0, (end - System.nanoTime()) / 1_000_000);
+                timeouts.scriptTimeout(Duration.ofMillis(remainingMs).plus(SCRIPT_TIMEOUT_MARGIN));
+                List<Object> callArgs = new ArrayList<>(args);
+                callArgs.add(remainingMs);
+                callArgs.add(FALLBACK_CHECK_MS);
+                try {
+                    Object result = ((JavascriptExecutor) driver).executeAsyncScript(script, callArgs.toArray());
+                    if (result instanceof Map<?, ?> map && map.get("element") instanceof WebElement element) {
+                        return element;
+                    }
+                    throw timeout(condition, null);
+                } catch (ScriptTimeoutException e) {
+                    throw timeout(condition, e);
+                } catch (TimeoutException e) {
+                    throw e;
+                } catch (WebDriverException e) {
+                    // 🔁 Document unloaded mid-wait (navigation) — re-arm on the new page; anything else is real
+                    if (!isNavigationError(e)) {
+                        throw e;
+                    }
+                    if (System.nanoTime() >= end) {
+                        throw timeout(condition, e);
+                    }
+                }
+            }
+        } finally {
+            timeouts.scriptTimeout(originalScriptTimeout);
+        }
+    }
+
+    /**
+     * True if a script failed only because its document went away (the page navigated or reloaded
+     * while it ran) — worth re-running on the new document. Drivers report this as a JavaScript
+     * error whose message names the unload, so the message is all there is to go on.
+     */
+    public static boolean isNavigationError(WebDriverException error) {
+        String message = String.valueOf(error.getMessage()).toLowerCase(Locale.ROOT);
+        return NAVIGATION_ERRORS.stream().anyMatch(message::contains);
+    }
+
+    private TimeoutException timeout(BrowserCondition condition, Throwable cause) {
+        String text = message != null ? message
+                : "Expected condition failed: waiting for " + condition + " (tried for " + timeout.toMillis() + " ms)";
+        return new TimeoutException(text, cause);
+    }
+}
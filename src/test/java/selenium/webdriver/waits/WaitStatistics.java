@@ -0,0 +1,140 @@
+package selenium.webdriver.waits;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 📈 WaitStatistics — how long waits actually take, per condition
+ *
+ * Every {@link AdaptiveWait} records its elapsed time, number of polls and outcome
+ * under a key (usually the locator); a wait that times out or throws counts as a timeout.
+ * Successful waits also record a settle time — when the condition became true, as far as the
+ * polls could tell — which is the history AdaptiveWait uses to choose its polling schedule.
+ *
+ * ✅ Find the slowest waits in the suite:
+ *     WaitStatistics.slowest(10).forEach(System.out::println);
+ */
+public final class WaitStatistics {
+
+    private static final int HISTORY_SIZE = 64;
+    private static final Map<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private WaitStatistics() {
+    }
+
+    /**
+     * One line of the summary. Times are in milliseconds.
+     */
+    public record Summary(String key, long waits, long timeouts, long totalMs, double meanMs,
+                          long p50Ms, long p95Ms, long maxMs, double meanPolls) {
+        @Override
+        public String toString() {
+            return String.format("%-60s waits=%d timeouts=%d total=%dms mean=%.1fms p50=%dms p95=%dms max=%dms polls=%.1f",
+                    key, waits, timeouts, totalMs, meanMs, p50Ms, p95Ms, maxMs, meanPolls);
+        }
+    }
+
+    static void record(String key, long elapsedMs, int polls, boolean failed) {
+        record(key, elapsedMs, elapsedMs, polls, failed);
+    }
+
+    static void record(String key, long elapsedMs, long settleMs, int polls, boolean failed) {
+        ENTRIES.computeIfAbsent(key, k -> new Entry()).record(elapsedMs, settleMs, polls, failed);
+    }
+
+    /**
+     * Recent settle times of successful waits for the key (oldest first), empty if none.
+     */
+    static long[] history(String key) {
+        Entry entry = ENTRIES.get(key);
+        return entry == null ? new long[0] : entry.settled();
+    }
+
+    public static Summary summary(String key) {
+        Entry entry = ENTRIES.get(key);
+        return entry == null ? null : entry.summarize(key);
+    }
+
+    /**
+     * All keys, ordered by total time spent waiting (largest first).
+     */
+    public static List<Summary> summaries() {
+        List<Summary> all = new ArrayList<>();
+        ENTRIES.forEach((key, entry) -> all.add(entry.summarize(key)));
+        all.sort(Comparator.comparingLong(Summary::totalMs).reversed());
+        return all;
+    }
+
+    public static List<Summary> slowest(int limit) {
+        List<Summary> all = summaries();
+        return all.subList(0, Math.min(limit, all.size()));
+    }
+
+    public static void reset() {
+        ENTRIES.clear();
+    }
+
+    private static final class Entry {
+        private final long[] recent = new long[HISTORY_SIZE];
+        private final long[] settle = new long[HISTORY_SIZE];
+        private int recentCount;
+        private int next;
+        private long waits;
+        private long timeouts;
+        private long totalMs;
+        private long maxMs;
+        private long totalPolls;
+
+        synchronized void record(long elapsedMs, long settleMs, int polls, boolean failed) {
+            waits++;
+            totalMs += elapsedMs;
+            totalPolls += polls;
+            maxMs = Math.max(maxMs, elapsedMs);
+            if (failed) {
+                timeouts++;
+                return;
+            }
+            recent[next] = elapsedMs;
+            settle[next] = settleMs;
+            next = (next + 1) % HISTORY_SIZE;
+            recentCount = Math.min(recentCount + 1, HISTORY_SIZE);
+        }
+
+        synchronized long[] recent() {
+            return oldestFirst(recent);
+        }
+
+        synchronized long[] settled() {
+            return oldestFirst(settle);
+        }
+
+        private long[] oldestFirst(long[] ring) {
+            long[] copy = new long[recentCount];
+            for (int i = 0; i < recentCount; i++) {
+                copy[i] = ring[(next - recentCount + i + HISTORY_SIZE) % HISTORY_SIZE];
+            }
+            return copy;
+        }
+
+        synchronized Summary summarize(String key) {
+            long[] sorted = recent();
+            Arrays.sort(sorted);
+            return new Summary(key, waits, timeouts, totalMs,
+                    waits == 0 ? 0 : (double) totalMs / waits,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), maxMs,
+                    waits == 0 ? 0 : (double) totalPolls / waits);
+        }
+    }
+
+    static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,43 @@
+package selenium.webdriver.waits;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+public class WaitStatisticsTest {
+
+    @AfterMethod
+    public void clear() {
+        WaitStatistics.reset();
+    }
+
+    @Test
+    public void percentileIsNearestRank() {
+        long[] sorted = {10, 20, 30, 40, 50, 60, 70, 80, 90, 100};
+
+        assertEquals(WaitStatistics.percentile(sorted, 0.50), 50);
+        assertEquals(WaitStatistics.percentile(sorted, 0.95), 100);
+        assertEquals(WaitStatistics.percentile(sorted, 0.0), 10);
+        assertEquals(WaitStatistics.percentile(sorted, 1.0), 100);
+    }
+
+    @Test
+    public void percentileOfNothingIsZero() {
+        assertEquals(WaitStatistics.percentile(new long[0], 0.95), 0);
+    }
+
+    @Test
+    public void timeoutsAreCountedButKeptOutOfTheHistory() {
+        WaitStatistics.record("key", 40, 3, false);
+        WaitStatistics.record("key", 10_000, 9, true);
+        WaitStatistics.record("key", 20, 1, false);
+
+        WaitStatistics.Summary summary = WaitStatistics.summary("key");
+        assertEquals(summary.waits(), 3);
+        assertEquals(summary.timeouts(), 1);
+        assertEquals(summary.p95Ms(), 40);
+        assertEquals(summary.maxMs(), 10_000);
+        assertEquals(WaitStatistics.history("key"), new long[]{40, 20});
+    }
+}
@@ -5,6 +5,7 @@ import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import selenium.webdriver.listeners.SeleniumEvents;
 
 import java.time.Duration;
 
@@ -80,9 +81,10 @@ public class WaitingStrategies {
 
         // ✅ Explicit wait: wait until the input is visible
         WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
-        WebElement revealedInput = wait.until(
+        // 🛩️ recordWait shows this wait (duration, condition, outcome) in JFR recordings
+        WebElement revealedInput = SeleniumEvents.recordWait("visibility of By.id: revealed", () -> wait.until(
                 ExpectedConditions.visibilityOfElementLocated(By.id("revealed"))
-        );
+        ));
 
 
 
@@ -121,14 +123,70 @@ public class WaitingStrategies {
                 .withMessage("Custom timeout: Element not ready for interaction within 10 seconds.");
 
         // ✅ Lambda condition — returns true only when element is displayed AND enabled
-        WebElement revealedInput = wait.until(driverInstance -> {
+        WebElement revealedInput = SeleniumEvents.recordWait("displayed and enabled: By.id: revealed", () -> wait.until(driverInstance -> {
             WebElement input = driverInstance.findElement(By.id("revealed"));
             if (input.isDisplayed() && input.isEnabled()) {
                 input.sendKeys("Customized wait succeeded!");
                 return input; // returning the usable element
             }
             return null;
-        });
+        }));
+
+        driver.quit();
+    }
+
+    /**
+     *  🪄 ADAPTIVE FLUENT WAIT
+     * Same lambda condition as the FluentWait demo, but with AdaptiveWait:
+     * - Polls at 10ms, then backs off (x2) up to 500ms instead of a fixed 500ms
+     * - Learns each locator's typical settle time and skips polls that would certainly fail
+     * - Records duration and poll count per wait in WaitStatistics
+     */
+    public static void demonstrateAdaptiveWait() {
+        WebDriver driver = new ChromeDriver();
+        driver.get("https://www.selenium.dev/selenium/web/dynamic.html");
+
+        driver.findElement(By.id("reveal")).click();
+
+        By revealed = By.id("revealed");
+        WebElement revealedInput = AdaptiveWait.forLocator(driver, revealed)
+                .withTimeout(Duration.ofSeconds(10))
+                .ignoring(ElementNotInteractableException.class)
+                .ignoring(NoSuchElementException.class)
+                .withMessage("Custom timeout: Element not ready for interaction within 10 seconds.")
+                .until(driverInstance -> {
+                    WebElement input = driverInstance.findElement(revealed);
+                    return input.isDisplayed() && input.isEnabled() ? input : null;
+                });
+        revealedInput.sendKeys("Adaptive wait succeeded!");
+
+        // ✅ Which waits cost the most time?
+        WaitStatistics.slowest(5).forEach(System.out::println);
+
+        driver.quit();
+    }
+
+    /**
+     *  ⚡ IN-BROWSER (EVENT-DRIVEN) WAIT
+     * Demonstrates BrowserWait — the same "displayed AND enabled" condition as above,
+     * but evaluated inside the page:
+     * - One executeAsyncScript round trip instead of 2–3 per poll
+     * - Detected within one animation frame of the DOM change (MutationObserver), not the next 500ms poll
+     * - The whole composite condition runs in the browser
+     */
+    public static void demonstrateInBrowserWait() {
+        WebDriver driver = new ChromeDriver();
+        driver.get("https://www.selenium.dev/selenium/web/dynamic.html");
+
+        // Click to reveal the dynamic input
+        driver.findElement(By.id("reveal")).click();
+
+        // ✅ Visible AND enabled, checked by the page itself
+        WebElement revealedInput = BrowserWait.on(driver, Duration.ofSeconds(10))
+                .withMessage("Custom timeout: Element not ready for interaction within 10 seconds.")
+                .until(BrowserCondition.located(By.id("revealed")).visible().enabled());
+
+        revealedInput.sendKeys("In-browser wait succeeded!");
 
         driver.quit();
     }